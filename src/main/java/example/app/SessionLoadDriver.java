@@ -0,0 +1,363 @@
+package example.app;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.SessionRepository;
+import org.springframework.util.Assert;
+
+import example.support.Histogram;
+
+/**
+ * The SessionLoadDriver class drives a configurable, concurrent read/write/delete workload against
+ * a Spring Session {@link SessionRepository} and reports the throughput and latency distribution per operation.
+ *
+ * Before the run, the driver creates a working set of Sessions with payloads drawn from the configured size range.
+ * Each thread then issues operations chosen at random according to the configured mix.  Reads, writes (updates)
+ * and deletes choose uniformly among the Sessions of the working set.  A deleted Session is replaced by a new
+ * Session in the working set after the delete has been timed, and a write to a Session that no longer exists
+ * (e.g. it expired) creates a new Session in its place, so the working set keeps its size for the whole run.
+ * When a target throughput is set,
+ * the threads pace their operations to a fixed schedule and latency is measured from the scheduled start time
+ * so that a stalled server is reflected in the latencies rather than hidden by fewer requests.
+ *
+ * Latencies are recorded in a {@link Histogram} with power-of-two buckets, so the reported percentiles are
+ * the upper bounds of the buckets containing them and may be up to twice the actual values.
+ *
+ * @author John Blum
+ * @see example.support.Histogram
+ * @see org.springframework.session.SessionRepository
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+class SessionLoadDriver {
+
+	static final int NO_SLOT = -1;
+
+	static final String PAYLOAD_SESSION_ATTRIBUTE_NAME = "payload";
+
+	static final Pattern MIX_PATTERN = Pattern.compile("\\s*\\d+\\s*:\\s*\\d+\\s*:\\s*\\d+\\s*");
+	static final Pattern RANGE_PATTERN = Pattern.compile("\\s*(\\d+)\\s*(?:-\\s*(\\d+)\\s*)?");
+
+	private final AtomicReferenceArray<String> sessionIds;
+
+	private final int threads;
+	private final int operationsPerSecond;
+	private final int maxSessionSize;
+	private final int minSessionSize;
+
+	private final int[] mix;
+
+	private final long duration;
+
+	private final Map<Operation, Statistics> statistics = new EnumMap<>(Operation.class);
+
+	private final SessionRepository<ExpiringSession> sessionRepository;
+
+	/**
+	 * Constructs an instance of the SessionLoadDriver.
+	 *
+	 * @param sessionRepository {@link SessionRepository} under load.
+	 * @param threads number of concurrent client threads.
+	 * @param sessions number of Sessions in the working set.
+	 * @param operationsPerSecond target throughput for all threads combined; 0 or less means unthrottled.
+	 * @param duration duration of the run in milliseconds.
+	 * @param mix read, write and delete weights in the form {@literal read:write:delete} (e.g. {@literal 80:15:5}).
+	 * @param sessionSize size of the Session payload in bytes, either fixed (e.g. {@literal 1024}) or uniformly
+	 * distributed over a range (e.g. {@literal 256-4096}).
+	 */
+	SessionLoadDriver(SessionRepository<ExpiringSession> sessionRepository, int threads, int sessions,
+			int operationsPerSecond, long duration, String mix, String sessionSize) {
+
+		Assert.notNull(sessionRepository, "SessionRepository must not be null");
+		Assert.isTrue(threads > 0, "Threads must be greater than 0");
+		Assert.isTrue(sessions > 0, "Sessions must be greater than 0");
+		Assert.isTrue(duration > 0, "Duration must be greater than 0");
+
+		this.sessionRepository = sessionRepository;
+		this.sessionIds = new AtomicReferenceArray<>(sessions);
+		this.threads = threads;
+		this.operationsPerSecond = operationsPerSecond;
+		this.duration = duration;
+		this.mix = parseMix(mix);
+
+		int[] sessionSizeRange = parseRange(sessionSize);
+
+		this.minSessionSize = sessionSizeRange[0];
+		this.maxSessionSize = sessionSizeRange[1];
+
+		for (Operation operation : Operation.values()) {
+			statistics.put(operation, new Statistics());
+		}
+	}
+
+	static int[] parseMix(String mix) {
+		Assert.isTrue(mix != null && MIX_PATTERN.matcher(mix).matches(),
+			String.format("Mix [%s] must be in the form read:write:delete with non-negative weights", mix));
+
+		String[] weights = mix.split(":");
+
+		int[] cumulativeWeights = new int[weights.length];
+		int total = 0;
+
+		for (int index = 0; index < weights.length; index++) {
+			total = Math.addExact(total, Integer.parseInt(weights[index].trim()));
+			cumulativeWeights[index] = total;
+		}
+
+		Assert.isTrue(total > 0, String.format("Mix [%s] must contain at least one non-zero weight", mix));
+
+		return cumulativeWeights;
+	}
+
+	static int[] parseRange(String range) {
+		Matcher matcher = (range != null ? RANGE_PATTERN.matcher(range) : null);
+
+		Assert.isTrue(matcher != null && matcher.matches(),
+			String.format("Session size [%s] must be in the form min-max or size with non-negative sizes", range));
+
+		int min = Integer.parseInt(matcher.group(1));
+		int max = (matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : min);
+
+		Assert.isTrue(max >= min, String.format("Session size [%s] is not a valid range", range));
+
+		return new int[] { min, max };
+	}
+
+	/**
+	 * Creates the Sessions of the working set, dividing the work among the given number of threads.
+	 *
+	 * @param executorService {@link ExecutorService} running the client threads.
+	 * @throws Exception if a Session cannot be created.
+	 */
+	void populate(ExecutorService executorService) throws Exception {
+		List<Future<?>> futures = new ArrayList<>(threads);
+
+		for (int thread = 0; thread < threads; thread++) {
+			int firstSlot = thread;
+
+			futures.add(executorService.submit(() -> {
+				for (int slot = firstSlot; slot < getSessionCount(); slot += threads) {
+					replaceSession(slot, null, ThreadLocalRandom.current());
+				}
+			}));
+		}
+
+		for (Future<?> future : futures) {
+			future.get();
+		}
+	}
+
+	/**
+	 * Runs the workload for the configured duration and returns the report.
+	 *
+	 * @return a {@link String} containing the throughput and latency report for each {@link Operation}.
+	 * @throws Exception if a client thread fails unexpectedly.
+	 */
+	String run() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+
+		try {
+			populate(executorService);
+
+			long startTime = System.nanoTime();
+			long endTime = (startTime + TimeUnit.MILLISECONDS.toNanos(duration));
+			long interval = (operationsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(threads) / operationsPerSecond : 0L);
+
+			List<Future<?>> futures = new ArrayList<>(threads);
+
+			for (int thread = 0; thread < threads; thread++) {
+				long threadStartTime = (startTime + (interval * thread / threads));
+				futures.add(executorService.submit(() -> drive(threadStartTime, endTime, interval)));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+
+			return report(System.nanoTime() - startTime);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	void drive(long startTime, long endTime, long interval) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		for (long scheduledTime = startTime; scheduledTime < endTime; scheduledTime += interval) {
+			long now = System.nanoTime();
+
+			if (interval > 0L && scheduledTime > now) {
+				LockSupport.parkNanos(scheduledTime - now);
+			}
+
+			Operation operation = nextOperation(random);
+
+			long operationStartTime = (interval > 0L ? scheduledTime : System.nanoTime());
+
+			int deletedSlot = NO_SLOT;
+
+			try {
+				deletedSlot = perform(operation, random);
+			}
+			catch (RuntimeException ignore) {
+				statistics.get(operation).errors.incrementAndGet();
+			}
+
+			statistics.get(operation).latencies.record(
+				TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - operationStartTime));
+
+			if (deletedSlot != NO_SLOT) {
+				try {
+					replaceSession(deletedSlot, null, random);
+				}
+				catch (RuntimeException ignore) {
+					// the slot is filled again by the next write choosing it
+				}
+			}
+
+			if (System.nanoTime() >= endTime) {
+				break;
+			}
+		}
+	}
+
+	Operation nextOperation(Random random) {
+		return operationAt(random.nextInt(mix[mix.length - 1]));
+	}
+
+	Operation operationAt(int value) {
+		for (int index = 0; index < mix.length; index++) {
+			if (value < mix[index]) {
+				return Operation.values()[index];
+			}
+		}
+
+		return Operation.WRITE;
+	}
+
+	/**
+	 * Performs the given operation on a Session chosen uniformly from the working set.
+	 *
+	 * @return the slot of the deleted Session, which the caller replaces after timing the delete,
+	 * or {@link #NO_SLOT}.
+	 */
+	int perform(Operation operation, ThreadLocalRandom random) {
+		int slot = random.nextInt(getSessionCount());
+		String sessionId = sessionIds.get(slot);
+
+		switch (operation) {
+			case READ:
+				if (sessionId == null || sessionRepository.getSession(sessionId) == null) {
+					statistics.get(operation).misses.incrementAndGet();
+				}
+				return NO_SLOT;
+			case DELETE:
+				if (sessionId != null && sessionIds.compareAndSet(slot, sessionId, null)) {
+					sessionRepository.delete(sessionId);
+					return slot;
+				}
+				statistics.get(operation).misses.incrementAndGet();
+				return NO_SLOT;
+			default:
+				ExpiringSession session = (sessionId != null ? sessionRepository.getSession(sessionId) : null);
+
+				if (session != null) {
+					session.setAttribute(PAYLOAD_SESSION_ATTRIBUTE_NAME, newPayload(random));
+					sessionRepository.save(session);
+				}
+				else {
+					statistics.get(operation).misses.incrementAndGet();
+					replaceSession(slot, sessionId, random);
+				}
+
+				return NO_SLOT;
+		}
+	}
+
+	byte[] newPayload(ThreadLocalRandom random) {
+		return new byte[random.nextInt(minSessionSize, maxSessionSize + 1)];
+	}
+
+	/**
+	 * Creates a new Session and stores its ID in the given slot of the working set, unless another thread has
+	 * already replaced the expected Session ID.
+	 */
+	void replaceSession(int slot, String expectedSessionId, ThreadLocalRandom random) {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute(PAYLOAD_SESSION_ATTRIBUTE_NAME, newPayload(random));
+		sessionRepository.save(session);
+
+		if (!sessionIds.compareAndSet(slot, expectedSessionId, session.getId())) {
+			sessionRepository.delete(session.getId());
+		}
+	}
+
+	int getSessionCount() {
+		return sessionIds.length();
+	}
+
+	String getSessionId(int slot) {
+		return sessionIds.get(slot);
+	}
+
+	String report(long elapsedTime) {
+		double elapsedSeconds = (elapsedTime / (double) TimeUnit.SECONDS.toNanos(1));
+
+		StringBuilder report = new StringBuilder(String.format(
+			"Session load [threads = %1$d, sessions = %2$d, target = %3$s ops/s, duration = %4$.1f s]%n", threads,
+				getSessionCount(), (operationsPerSecond > 0 ? String.valueOf(operationsPerSecond) : "unthrottled"),
+					elapsedSeconds));
+
+		report.append(String.format("%1$-8s %2$10s %3$10s %4$8s %5$8s %6$10s %7$10s %8$10s %9$10s%n",
+			"op", "count", "ops/s", "errors", "misses", "mean(us)", "p50<=(us)", "p99<=(us)", "max(us)"));
+
+		for (Operation operation : Operation.values()) {
+			Statistics operationStatistics = statistics.get(operation);
+			Histogram latencies = operationStatistics.latencies;
+
+			report.append(String.format("%1$-8s %2$10d %3$10.1f %4$8d %5$8d %6$10d %7$10d %8$10d %9$10d%n",
+				operation, latencies.getCount(), (latencies.getCount() / elapsedSeconds),
+				operationStatistics.errors.get(), operationStatistics.misses.get(), latencies.getMean(),
+				latencies.getPercentile(50.0d), latencies.getPercentile(99.0d), latencies.getMax()));
+		}
+
+		for (Operation operation : Operation.values()) {
+			report.append(String.format("%n%1$s latency histogram (us, by bucket upper bound)%n", operation));
+
+			for (String bucket : statistics.get(operation).latencies.toStringArray()) {
+				report.append("  ").append(bucket).append(String.format("%n"));
+			}
+		}
+
+		return report.toString();
+	}
+
+	enum Operation {
+		READ, WRITE, DELETE
+	}
+
+	static class Statistics {
+
+		final AtomicLong errors = new AtomicLong(0L);
+		final AtomicLong misses = new AtomicLong(0L);
+
+		final Histogram latencies = new Histogram();
+	}
+}
@@ -2,6 +2,7 @@ package example.app;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -11,6 +12,7 @@ import javax.annotation.Resource;
 import com.gemstone.gemfire.cache.GemFireCache;
 import com.gemstone.gemfire.cache.Region;
 import com.gemstone.gemfire.cache.RegionAttributes;
+import com.gemstone.gemfire.cache.client.ClientCache;
 import com.gemstone.gemfire.cache.client.ClientRegionShortcut;
 import com.gemstone.gemfire.cache.client.Pool;
 
@@ -34,9 +36,13 @@ import org.springframework.session.ExpiringSession;
 import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.util.StringUtils;
 
 import example.server.SpringBootGemFireServer;
 import example.support.NumberUtils;
+import example.support.SessionAttributeKey;
+import example.support.SessionSnapshots;
+import example.support.SplitGemFireOperationsSessionRepository;
 
 /**
  * The SpringSessionDataGemFireCacheClient class...
@@ -60,6 +66,56 @@ public class SpringSessionDataGemFireCacheClient implements CommandLineRunner {
 	@Resource(name = GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
 	Region<Object, ExpiringSession> sessions;
 
+	@Value("${session.load.duration:60}")
+	int loadDuration;
+
+	@Value("${session.load.mix:80:15:5}")
+	String loadMix;
+
+	@Value("${session.load.operations-per-second:0}")
+	int loadOperationsPerSecond;
+
+	@Value("${session.load.sessions:1000}")
+	int loadSessions;
+
+	@Value("${session.load.session-size:256-4096}")
+	String loadSessionSize;
+
+	@Value("${session.load.threads:0}")
+	int loadThreads;
+
+	@Value("${gemfire.session.storage-layout:default}")
+	String sessionStorageLayout;
+
+	@Value("${session.snapshot.batch-size:" + SessionSnapshots.DEFAULT_BATCH_SIZE + "}")
+	int snapshotBatchSize;
+
+	@Value("${session.snapshot.export:}")
+	String snapshotExport;
+
+	@Value("${session.snapshot.import:}")
+	String snapshotImport;
+
+	/**
+	 * Returns the {@literal ClusteredSpringSessionAttributes} Region of the split storage layout, using the same
+	 * {@link Pool} as the {@literal ClusteredSpringSessions} Region, or {@literal null} for the default layout.
+	 */
+	Region<SessionAttributeKey, Object> sessionAttributes() {
+		if ("split".equalsIgnoreCase(sessionStorageLayout)) {
+			ClientCache clientCache = (ClientCache) sessions.getRegionService();
+
+			Region<SessionAttributeKey, Object> sessionAttributes =
+				clientCache.getRegion(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME);
+
+			return (sessionAttributes != null ? sessionAttributes
+				: clientCache.<SessionAttributeKey, Object>createClientRegionFactory(ClientRegionShortcut.PROXY)
+					.setPoolName(sessions.getAttributes().getPoolName())
+					.create(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME));
+		}
+
+		return null;
+	}
+
 	ExpiringSession load(Object sessionId) {
 		return sessions.get(sessionId);
 	}
@@ -81,6 +137,30 @@ public class SpringSessionDataGemFireCacheClient implements CommandLineRunner {
 
 	@Override
 	public void run(String... args) throws Exception {
+		if (StringUtils.hasText(snapshotExport)) {
+			System.err.printf("Exported Sessions to [%1$s] %2$s%n", snapshotExport,
+				SessionSnapshots.exportSnapshot(sessions, sessionAttributes(), new File(snapshotExport),
+					snapshotBatchSize));
+		}
+		else if (StringUtils.hasText(snapshotImport)) {
+			System.err.printf("Imported Sessions from [%1$s] %2$s%n", snapshotImport,
+				SessionSnapshots.importSnapshot(sessions, sessionAttributes(), new File(snapshotImport),
+					snapshotBatchSize));
+		}
+		else if (loadThreads > 0) {
+			System.err.println(newSessionLoadDriver().run());
+		}
+		else {
+			saveAndLoadSession();
+		}
+	}
+
+	SessionLoadDriver newSessionLoadDriver() {
+		return new SessionLoadDriver(sessionRepository, loadThreads, loadSessions, loadOperationsPerSecond,
+			TimeUnit.SECONDS.toMillis(loadDuration), loadMix, loadSessionSize);
+	}
+
+	void saveAndLoadSession() {
 		ExpiringSession expected = save(newSession());
 		ExpiringSession actual = load(expected.getId());
 
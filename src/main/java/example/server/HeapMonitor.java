@@ -0,0 +1,152 @@
+package example.server;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+/**
+ * The HeapMonitor class tracks the server's heap usage relative to the GemFire {@literal ResourceManager}
+ * eviction and critical heap thresholds and decides when the server should shed load by rejecting
+ * new Session creation.
+ *
+ * Like the GemFire {@literal ResourceManager}, heap usage is measured on the tenured (old generation) memory pool
+ * when available.  The usage measured after the last collection is used so that garbage waiting to be collected
+ * does not trigger load shedding.  HeapMonitor is exported as a JMX MBean and is therefore also accessible
+ * through the GemFire JMX Manager.
+ *
+ * @author John Blum
+ * @see java.lang.management.MemoryPoolMXBean
+ * @see org.springframework.jmx.export.annotation.ManagedResource
+ * @since 1.0.0
+ */
+@ManagedResource(objectName = "example.server:type=HeapMonitor",
+	description = "Heap health of the Spring Session GemFire Server")
+@SuppressWarnings("unused")
+public class HeapMonitor {
+
+	public enum HeapState {
+		NORMAL, EVICTION, SHEDDING, CRITICAL
+	}
+
+	private final AtomicLong rejectedSessionCreations = new AtomicLong(0L);
+
+	private final float criticalHeapPercentage;
+	private final float evictionHeapPercentage;
+	private final float sessionCreationHeapPercentage;
+
+	private final MemoryPoolMXBean tenuredMemoryPool = findTenuredMemoryPool();
+
+	/**
+	 * Constructs an instance of the HeapMonitor.
+	 *
+	 * @param evictionHeapPercentage GemFire {@literal ResourceManager} eviction heap percentage.
+	 * @param sessionCreationHeapPercentage heap percentage at or above which new Session creation is rejected;
+	 * 0 or less disables load shedding.
+	 * @param criticalHeapPercentage GemFire {@literal ResourceManager} critical heap percentage, at or above which
+	 * GemFire rejects all writes.
+	 */
+	public HeapMonitor(float evictionHeapPercentage, float sessionCreationHeapPercentage,
+			float criticalHeapPercentage) {
+
+		this.evictionHeapPercentage = evictionHeapPercentage;
+		this.sessionCreationHeapPercentage = sessionCreationHeapPercentage;
+		this.criticalHeapPercentage = criticalHeapPercentage;
+	}
+
+	static MemoryPoolMXBean findTenuredMemoryPool() {
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			String name = memoryPool.getName();
+
+			if (MemoryType.HEAP.equals(memoryPool.getType()) && memoryPool.isUsageThresholdSupported()
+					&& (name.endsWith("Old Gen") || name.endsWith("Tenured Gen") || name.endsWith("Old Space"))) {
+
+				return memoryPool;
+			}
+		}
+
+		return null;
+	}
+
+	MemoryUsage heapUsage() {
+		if (tenuredMemoryPool != null) {
+			MemoryUsage collectionUsage = tenuredMemoryPool.getCollectionUsage();
+
+			return (collectionUsage != null && collectionUsage.getUsed() > 0L ? collectionUsage
+				: tenuredMemoryPool.getUsage());
+		}
+
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+	}
+
+	@ManagedAttribute(description = "Critical heap percentage at or above which all writes are rejected")
+	public float getCriticalHeapPercentage() {
+		return criticalHeapPercentage;
+	}
+
+	@ManagedAttribute(description = "Eviction heap percentage at or above which heap LRU eviction begins")
+	public float getEvictionHeapPercentage() {
+		return evictionHeapPercentage;
+	}
+
+	@ManagedAttribute(description = "Heap percentage at or above which new Session creation is rejected")
+	public float getSessionCreationHeapPercentage() {
+		return sessionCreationHeapPercentage;
+	}
+
+	@ManagedAttribute(description = "Percentage of the (tenured) heap in use")
+	public float getHeapUsedPercentage() {
+		MemoryUsage heapUsage = heapUsage();
+		long max = (heapUsage.getMax() > 0L ? heapUsage.getMax() : heapUsage.getCommitted());
+
+		return (max > 0L ? (heapUsage.getUsed() * 100.0f / max) : 0.0f);
+	}
+
+	@ManagedAttribute(description = "Heap state; one of NORMAL, EVICTION, SHEDDING or CRITICAL")
+	public String getHeapState() {
+		return heapState(getHeapUsedPercentage()).name();
+	}
+
+	HeapState heapState(float heapUsedPercentage) {
+		return (isAtOrAbove(heapUsedPercentage, criticalHeapPercentage) ? HeapState.CRITICAL
+			: (isAtOrAbove(heapUsedPercentage, sessionCreationHeapPercentage) ? HeapState.SHEDDING
+			: (isAtOrAbove(heapUsedPercentage, evictionHeapPercentage) ? HeapState.EVICTION
+			: HeapState.NORMAL)));
+	}
+
+	private boolean isAtOrAbove(float heapUsedPercentage, float threshold) {
+		return (threshold > 0.0f && heapUsedPercentage >= threshold);
+	}
+
+	@ManagedAttribute(description = "Number of new Sessions rejected while shedding load")
+	public long getRejectedSessionCreationCount() {
+		return rejectedSessionCreations.get();
+	}
+
+	/**
+	 * Determines whether new Session creation should be rejected given the current heap usage.
+	 * Reads and updates of existing Sessions continue until GemFire's critical heap threshold is reached.
+	 *
+	 * @return a boolean value indicating whether new Session creation should be rejected.
+	 */
+	public boolean isSheddingSessionCreation() {
+		return isAtOrAbove(getHeapUsedPercentage(), sessionCreationHeapPercentage);
+	}
+
+	public void recordRejectedSessionCreation() {
+		rejectedSessionCreations.incrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		float heapUsedPercentage = getHeapUsedPercentage();
+
+		return String.format("%1$s { heapUsed = %2$.1f%%, state = %3$s, rejectedSessionCreations = %4$d }",
+			getClass().getSimpleName(), heapUsedPercentage, heapState(heapUsedPercentage),
+				getRejectedSessionCreationCount());
+	}
+}
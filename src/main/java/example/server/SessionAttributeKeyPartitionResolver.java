@@ -0,0 +1,33 @@
+package example.server;
+
+import com.gemstone.gemfire.cache.EntryOperation;
+import com.gemstone.gemfire.cache.PartitionResolver;
+
+import example.support.SessionAttributeKey;
+
+/**
+ * The SessionAttributeKeyPartitionResolver class is a GemFire {@link PartitionResolver} routing each Session attribute
+ * entry to the bucket of its Session, thereby colocating a Session's attributes with the Session's metadata entry
+ * in the {@literal ClusteredSpringSessions} Region.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.PartitionResolver
+ * @see example.support.SessionAttributeKey
+ * @since 1.0.0
+ */
+public class SessionAttributeKeyPartitionResolver implements PartitionResolver<SessionAttributeKey, Object> {
+
+	@Override
+	public Object getRoutingObject(EntryOperation<SessionAttributeKey, Object> entryOperation) {
+		return entryOperation.getKey().getSessionId();
+	}
+
+	@Override
+	public String getName() {
+		return getClass().getName();
+	}
+
+	@Override
+	public void close() {
+	}
+}
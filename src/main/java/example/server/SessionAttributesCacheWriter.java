@@ -0,0 +1,105 @@
+package example.server;
+
+import com.gemstone.gemfire.cache.CacheWriterException;
+import com.gemstone.gemfire.cache.EntryEvent;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.SerializedCacheValue;
+import com.gemstone.gemfire.cache.util.CacheWriterAdapter;
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+import org.springframework.session.ExpiringSession;
+import org.springframework.util.Assert;
+
+import example.support.SessionAttributeKey;
+
+/**
+ * The SessionAttributesCacheWriter class is a GemFire {@link com.gemstone.gemfire.cache.CacheWriter} guarding
+ * writes to the {@literal ClusteredSpringSessionAttributes} Region of the split storage layout.
+ *
+ * Since a Session's metadata entry is saved before its attributes, the creation of an attribute entry for a Session
+ * that does not exist (e.g. because the Session was rejected for its size or while the server sheds load, or expired
+ * in the meantime) is rejected, so no attribute entries are left behind without a Session.  Every attribute save is
+ * measured with the configured {@link ObjectSizer} and recorded in the {@link SessionStatistics}; an attribute larger
+ * than the maximum Session size is rejected.  The size of the Session as a whole is enforced by
+ * the {@link SessionCacheWriter} on the Session's metadata entry.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.util.CacheWriterAdapter
+ * @see example.server.SessionCacheWriter
+ * @see example.support.SplitGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+public class SessionAttributesCacheWriter extends CacheWriterAdapter<SessionAttributeKey, Object> {
+
+	private final int maxSessionSize;
+
+	private final ObjectSizer objectSizer;
+
+	private final Region<Object, ExpiringSession> sessionRegion;
+
+	private final SessionStatistics sessionStatistics;
+
+	/**
+	 * Constructs an instance of the SessionAttributesCacheWriter.
+	 *
+	 * @param sessionRegion {@link Region} storing the Sessions' metadata entries.
+	 * @param objectSizer {@link ObjectSizer} used to measure Session attributes.
+	 * @param sessionStatistics {@link SessionStatistics} recording Session attribute sizes.
+	 * @param maxSessionSize maximum size of a Session in bytes; 0 or less means unlimited.
+	 */
+	public SessionAttributesCacheWriter(Region<Object, ExpiringSession> sessionRegion, ObjectSizer objectSizer,
+			SessionStatistics sessionStatistics, int maxSessionSize) {
+
+		Assert.notNull(sessionRegion, "Session Region must not be null");
+		Assert.notNull(objectSizer, "ObjectSizer must not be null");
+		Assert.notNull(sessionStatistics, "SessionStatistics must not be null");
+
+		this.sessionRegion = sessionRegion;
+		this.objectSizer = objectSizer;
+		this.sessionStatistics = sessionStatistics;
+		this.maxSessionSize = maxSessionSize;
+	}
+
+	@Override
+	public void beforeCreate(EntryEvent<SessionAttributeKey, Object> event) throws CacheWriterException {
+		validateSessionExists(event);
+		validateSessionAttributeSize(event);
+	}
+
+	@Override
+	public void beforeUpdate(EntryEvent<SessionAttributeKey, Object> event) throws CacheWriterException {
+		validateSessionAttributeSize(event);
+	}
+
+	int sizeOf(EntryEvent<SessionAttributeKey, Object> event) {
+		SerializedCacheValue<Object> serializedAttribute = event.getSerializedNewValue();
+
+		return objectSizer.sizeof(serializedAttribute != null ? serializedAttribute.getSerializedValue()
+			: event.getNewValue());
+	}
+
+	void validateSessionExists(EntryEvent<SessionAttributeKey, Object> event) {
+		String sessionId = event.getKey().getSessionId();
+
+		if (!sessionRegion.containsValueForKey(sessionId)) {
+			throw new CacheWriterException(String.format(
+				"Attribute [%1$s] of Session [%2$s] was not created; the Session does not exist",
+					event.getKey().getAttributeName(), sessionId));
+		}
+	}
+
+	void validateSessionAttributeSize(EntryEvent<SessionAttributeKey, Object> event) {
+		int sessionAttributeSize = sizeOf(event);
+
+		sessionStatistics.recordSessionAttributeSize(sessionAttributeSize);
+
+		if (maxSessionSize > 0 && sessionAttributeSize > maxSessionSize) {
+			sessionStatistics.recordRejectedOversizedSession();
+
+			throw new CacheWriterException(String.format(
+				"Attribute [%1$s] of Session [%2$s] of size [%3$d] bytes exceeds the maximum Session size of [%4$d] bytes",
+					event.getKey().getAttributeName(), event.getKey().getSessionId(), sessionAttributeSize,
+						maxSessionSize));
+		}
+	}
+}
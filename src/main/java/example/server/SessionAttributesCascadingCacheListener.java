@@ -0,0 +1,99 @@
+package example.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.gemstone.gemfire.cache.EntryEvent;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.partition.PartitionRegionHelper;
+import com.gemstone.gemfire.cache.util.CacheListenerAdapter;
+
+import org.springframework.session.ExpiringSession;
+import org.springframework.util.Assert;
+
+import example.support.SessionAttributeKey;
+import example.support.SplitGemFireOperationsSessionRepository;
+
+/**
+ * The SessionAttributesCascadingCacheListener class is a GemFire {@link com.gemstone.gemfire.cache.CacheListener}
+ * registered on the {@literal ClusteredSpringSessions} Region that removes a Session's attribute entries from
+ * the colocated {@literal ClusteredSpringSessionAttributes} Region when the Session's metadata entry is destroyed
+ * or invalidated, for instance, by expiration.
+ *
+ * The attribute entries are removed only by the member on which the operation originated, which hosts the bucket
+ * of both the Session and, since the Regions are colocated, the Session's attributes.  The attribute keys are taken
+ * from the attribute markers of the removed metadata entry (the event's old value).  When the old value is not
+ * available, the keys are found by scanning the attribute entries hosted by this member rather than by querying
+ * the whole Region, so the cost of a removal does not grow with the size of the cluster.  Attribute entries that are
+ * missed (e.g. written concurrently with the removal) are collected by the {@link SessionAttributesOrphanSweeper}.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.util.CacheListenerAdapter
+ * @see example.server.SessionAttributesOrphanSweeper
+ * @see example.support.SplitGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+public class SessionAttributesCascadingCacheListener extends CacheListenerAdapter<Object, ExpiringSession> {
+
+	private final Region<SessionAttributeKey, Object> sessionAttributesRegion;
+
+	public SessionAttributesCascadingCacheListener(Region<SessionAttributeKey, Object> sessionAttributesRegion) {
+		Assert.notNull(sessionAttributesRegion, "Session attributes Region must not be null");
+		this.sessionAttributesRegion = sessionAttributesRegion;
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<Object, ExpiringSession> event) {
+		removeSessionAttributes(event);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<Object, ExpiringSession> event) {
+		removeSessionAttributes(event);
+	}
+
+	void removeSessionAttributes(EntryEvent<Object, ExpiringSession> event) {
+		if (!event.isOriginRemote()) {
+			Collection<SessionAttributeKey> sessionAttributeKeys = sessionAttributeKeys(event);
+
+			if (!sessionAttributeKeys.isEmpty()) {
+				sessionAttributesRegion.removeAll(sessionAttributeKeys);
+			}
+		}
+	}
+
+	Collection<SessionAttributeKey> sessionAttributeKeys(EntryEvent<Object, ExpiringSession> event) {
+		String sessionId = String.valueOf(event.getKey());
+		Object metadata = event.getOldValue();
+
+		return (metadata instanceof ExpiringSession ? sessionAttributeKeys(sessionId, (ExpiringSession) metadata)
+			: findLocalSessionAttributeKeys(sessionId));
+	}
+
+	Collection<SessionAttributeKey> sessionAttributeKeys(String sessionId, ExpiringSession metadata) {
+		List<SessionAttributeKey> sessionAttributeKeys = new ArrayList<>();
+
+		for (String attributeName : SplitGemFireOperationsSessionRepository.attributeNames(metadata)) {
+			sessionAttributeKeys.add(new SessionAttributeKey(sessionId, attributeName));
+		}
+
+		return sessionAttributeKeys;
+	}
+
+	Collection<SessionAttributeKey> findLocalSessionAttributeKeys(String sessionId) {
+		Region<SessionAttributeKey, Object> localSessionAttributes =
+			(PartitionRegionHelper.isPartitionedRegion(sessionAttributesRegion)
+				? PartitionRegionHelper.getLocalData(sessionAttributesRegion) : sessionAttributesRegion);
+
+		List<SessionAttributeKey> sessionAttributeKeys = new ArrayList<>();
+
+		for (SessionAttributeKey sessionAttributeKey : localSessionAttributes.keySet()) {
+			if (sessionId.equals(sessionAttributeKey.getSessionId())) {
+				sessionAttributeKeys.add(sessionAttributeKey);
+			}
+		}
+
+		return sessionAttributeKeys;
+	}
+}
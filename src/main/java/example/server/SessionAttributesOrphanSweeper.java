@@ -0,0 +1,130 @@
+package example.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.partition.PartitionRegionHelper;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.session.ExpiringSession;
+import org.springframework.util.Assert;
+
+import example.support.SessionAttributeKey;
+
+/**
+ * The SessionAttributesOrphanSweeper class periodically removes the entries of the
+ * {@literal ClusteredSpringSessionAttributes} Region whose Session no longer exists in
+ * the {@literal ClusteredSpringSessions} Region.
+ *
+ * The {@link SessionAttributesCascadingCacheListener} removes a Session's attributes when the Session is destroyed
+ * or expires, and the {@link SessionAttributesCacheWriter} rejects attributes of Sessions that do not exist, but
+ * an attribute written concurrently with the removal of its Session can still be left behind.  The attribute entries
+ * are not expired by GemFire itself since attributes are read lazily; an attribute that is rarely read would expire
+ * by idle timeout while its Session is still in use.  Instead, each member sweeps the attribute entries for which it
+ * hosts the primary bucket and removes those whose Session, colocated in the same bucket, has no value.
+ *
+ * @author John Blum
+ * @see example.server.SessionAttributesCascadingCacheListener
+ * @see example.support.SplitGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class SessionAttributesOrphanSweeper implements InitializingBean, DisposableBean {
+
+	private final AtomicLong removedSessionAttributes = new AtomicLong(0L);
+
+	private final long sweepIntervalInSeconds;
+
+	private final Region<Object, ExpiringSession> sessionRegion;
+
+	private final Region<SessionAttributeKey, Object> sessionAttributesRegion;
+
+	private ScheduledExecutorService sweepExecutor;
+
+	/**
+	 * Constructs an instance of the SessionAttributesOrphanSweeper.
+	 *
+	 * @param sessionRegion {@link Region} storing the Sessions' metadata entries.
+	 * @param sessionAttributesRegion {@link Region} storing the Session attributes.
+	 * @param sweepIntervalInSeconds interval between sweeps in seconds; 0 or less disables sweeping.
+	 */
+	public SessionAttributesOrphanSweeper(Region<Object, ExpiringSession> sessionRegion,
+			Region<SessionAttributeKey, Object> sessionAttributesRegion, long sweepIntervalInSeconds) {
+
+		Assert.notNull(sessionRegion, "Session Region must not be null");
+		Assert.notNull(sessionAttributesRegion, "Session attributes Region must not be null");
+
+		this.sessionRegion = sessionRegion;
+		this.sessionAttributesRegion = sessionAttributesRegion;
+		this.sweepIntervalInSeconds = sweepIntervalInSeconds;
+	}
+
+	public long getRemovedSessionAttributeCount() {
+		return removedSessionAttributes.get();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (sweepIntervalInSeconds > 0) {
+			sweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread sweepThread = new Thread(runnable, "Session Attributes Orphan Sweeper");
+				sweepThread.setDaemon(true);
+				return sweepThread;
+			});
+
+			sweepExecutor.scheduleWithFixedDelay(this::sweepQuietly, sweepIntervalInSeconds, sweepIntervalInSeconds,
+				TimeUnit.SECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (sweepExecutor != null) {
+			sweepExecutor.shutdownNow();
+		}
+	}
+
+	static <K, V> Region<K, V> localPrimaryData(Region<K, V> region) {
+		return (PartitionRegionHelper.isPartitionedRegion(region) ? PartitionRegionHelper.getLocalPrimaryData(region)
+			: region);
+	}
+
+	void sweepQuietly() {
+		try {
+			sweep();
+		}
+		catch (RuntimeException cause) {
+			System.err.printf("Failed to sweep orphaned Session attributes: %s%n", cause);
+		}
+	}
+
+	/**
+	 * Removes the locally hosted primary attribute entries whose Session does not exist.
+	 *
+	 * @return the number of removed attribute entries.
+	 */
+	public int sweep() {
+		Region<Object, ExpiringSession> localSessions = localPrimaryData(sessionRegion);
+
+		List<SessionAttributeKey> orphanedSessionAttributeKeys = new ArrayList<>();
+
+		for (SessionAttributeKey sessionAttributeKey : localPrimaryData(sessionAttributesRegion).keySet()) {
+			if (!localSessions.containsValueForKey(sessionAttributeKey.getSessionId())) {
+				orphanedSessionAttributeKeys.add(sessionAttributeKey);
+			}
+		}
+
+		if (!orphanedSessionAttributeKeys.isEmpty()) {
+			sessionAttributesRegion.removeAll(orphanedSessionAttributeKeys);
+			removedSessionAttributes.addAndGet(orphanedSessionAttributeKeys.size());
+		}
+
+		return orphanedSessionAttributeKeys.size();
+	}
+}
@@ -0,0 +1,124 @@
+package example.server;
+
+import com.gemstone.gemfire.cache.CacheWriterException;
+import com.gemstone.gemfire.cache.EntryEvent;
+import com.gemstone.gemfire.cache.SerializedCacheValue;
+import com.gemstone.gemfire.cache.util.CacheWriterAdapter;
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+import org.springframework.session.ExpiringSession;
+import org.springframework.util.Assert;
+
+import example.support.SplitGemFireOperationsSessionRepository;
+
+/**
+ * The SessionCacheWriter class is a GemFire {@link com.gemstone.gemfire.cache.CacheWriter} guarding writes
+ * to the {@literal ClusteredSpringSessions} Region.
+ *
+ * Every Session save is measured with the configured {@link ObjectSizer} and recorded in the {@link SessionStatistics}.
+ * When GemFire provides the serialized Session, its bytes are measured directly; otherwise, as for delta updates,
+ * the Session is measured by the {@link ObjectSizer}, which must measure in the same unit (i.e. serialized bytes).
+ * Measuring a delta update therefore serializes the whole Session once on the server, at a cost that grows with
+ * the size of the Session rather than of the delta.
+ * With the split storage layout, the Session's size also includes the sizes of the Session's attributes recorded in
+ * the Session's metadata entry, so the maximum Session size applies to the whole Session.
+ * Saves of Sessions larger than the maximum Session size are rejected with a {@link CacheWriterException},
+ * which GemFire returns to the cache client as the cause of the failed {@literal put}.  While the {@link HeapMonitor}
+ * is shedding load, the creation of new Sessions is rejected the same way, while existing Sessions can still be
+ * read and updated.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.util.CacheWriterAdapter
+ * @see com.gemstone.gemfire.cache.util.ObjectSizer
+ * @see example.server.HeapMonitor
+ * @see example.server.SessionStatistics
+ * @see example.support.SplitGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+public class SessionCacheWriter extends CacheWriterAdapter<Object, ExpiringSession> {
+
+	private final boolean splitStorageLayout;
+
+	private final int maxSessionSize;
+
+	private final HeapMonitor heapMonitor;
+
+	private final ObjectSizer objectSizer;
+
+	private final SessionStatistics sessionStatistics;
+
+	/**
+	 * Constructs an instance of the SessionCacheWriter.
+	 *
+	 * @param objectSizer {@link ObjectSizer} used to measure Sessions.
+	 * @param sessionStatistics {@link SessionStatistics} recording Session sizes.
+	 * @param heapMonitor {@link HeapMonitor} determining when to reject new Sessions.
+	 * @param maxSessionSize maximum size of a Session in bytes; 0 or less means unlimited.
+	 * @param splitStorageLayout boolean value indicating whether Sessions are stored with the split storage layout,
+	 * in which case the sizes of the Session's attributes are added to the size of the Session's metadata entry.
+	 */
+	public SessionCacheWriter(ObjectSizer objectSizer, SessionStatistics sessionStatistics, HeapMonitor heapMonitor,
+			int maxSessionSize, boolean splitStorageLayout) {
+
+		Assert.notNull(objectSizer, "ObjectSizer must not be null");
+		Assert.notNull(sessionStatistics, "SessionStatistics must not be null");
+		Assert.notNull(heapMonitor, "HeapMonitor must not be null");
+
+		this.objectSizer = objectSizer;
+		this.heapMonitor = heapMonitor;
+		this.sessionStatistics = sessionStatistics;
+		this.maxSessionSize = maxSessionSize;
+		this.splitStorageLayout = splitStorageLayout;
+	}
+
+	public int getMaxSessionSize() {
+		return maxSessionSize;
+	}
+
+	@Override
+	public void beforeCreate(EntryEvent<Object, ExpiringSession> event) throws CacheWriterException {
+		validateHeapUsage(event);
+		validateSessionSize(event);
+	}
+
+	@Override
+	public void beforeUpdate(EntryEvent<Object, ExpiringSession> event) throws CacheWriterException {
+		validateSessionSize(event);
+	}
+
+	long sizeOf(EntryEvent<Object, ExpiringSession> event) {
+		SerializedCacheValue<ExpiringSession> serializedSession = event.getSerializedNewValue();
+
+		long sessionSize = objectSizer.sizeof(serializedSession != null ? serializedSession.getSerializedValue()
+			: event.getNewValue());
+
+		return (splitStorageLayout && event.getNewValue() != null
+			? sessionSize + SplitGemFireOperationsSessionRepository.attributesSize(event.getNewValue())
+			: sessionSize);
+	}
+
+	void validateHeapUsage(EntryEvent<Object, ExpiringSession> event) {
+		if (heapMonitor.isSheddingSessionCreation()) {
+			heapMonitor.recordRejectedSessionCreation();
+
+			throw new CacheWriterException(String.format(
+				"Session [%1$s] was not created; server heap usage [%2$.1f%%] is at or above [%3$.1f%%]",
+					event.getKey(), heapMonitor.getHeapUsedPercentage(),
+						heapMonitor.getSessionCreationHeapPercentage()));
+		}
+	}
+
+	void validateSessionSize(EntryEvent<Object, ExpiringSession> event) {
+		long sessionSize = sizeOf(event);
+
+		sessionStatistics.recordSessionSize(sessionSize);
+
+		if (maxSessionSize > 0 && sessionSize > maxSessionSize) {
+			sessionStatistics.recordRejectedOversizedSession();
+
+			throw new CacheWriterException(String.format(
+				"Session [%1$s] of size [%2$d] bytes exceeds the maximum Session size of [%3$d] bytes",
+					event.getKey(), sessionSize, maxSessionSize));
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package example.server;
+
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+import example.support.SerializationUtils;
+
+/**
+ * The SessionObjectSizer class is a GemFire {@link ObjectSizer} measuring the size of Sessions (and Session
+ * attributes) saved by the cache clients, used by the {@link SessionCacheWriter} to enforce the maximum Session size.
+ *
+ * Every value is measured in serialized bytes, the unit in which Sessions are sent to and stored on the server,
+ * so that all saves, whether full values or deltas, are measured alike.  Serialized values are sized by their
+ * length.  Deserialized values (e.g. a Session updated with a delta) are measured with
+ * {@link SerializationUtils#serializedSize(Object)}, which serializes the whole value and therefore costs time
+ * proportional to the size of the Session.  Since GemFire does not provide the size of a delta, this is the cost of
+ * measuring a delta update; the SessionObjectSizer is not used for memory LRU eviction, which would otherwise
+ * serialize the Session a second time on every update.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.util.ObjectSizer
+ * @see example.support.SerializationUtils
+ * @since 1.0.0
+ */
+public class SessionObjectSizer implements ObjectSizer {
+
+	public static final SessionObjectSizer INSTANCE = new SessionObjectSizer();
+
+	@Override
+	public int sizeof(Object value) {
+		return (value instanceof byte[] ? ((byte[]) value).length
+			: (value != null ? SerializationUtils.serializedSize(value) : 0));
+	}
+}
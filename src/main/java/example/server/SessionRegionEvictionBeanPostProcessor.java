@@ -0,0 +1,79 @@
+package example.server;
+
+import com.gemstone.gemfire.cache.EvictionAction;
+import com.gemstone.gemfire.cache.EvictionAttributes;
+import com.gemstone.gemfire.cache.PartitionAttributesFactory;
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.util.Assert;
+
+/**
+ * The SessionRegionEvictionBeanPostProcessor class is a Spring {@link BeanPostProcessor} that configures
+ * memory LRU eviction on the {@literal ClusteredSpringSessions} Region's attributes, declared by Spring Session
+ * Data GemFire's {@literal sessionRegionAttributes} bean, before the Region is created.
+ *
+ * The memory used by each Session entry is measured by the given {@link ObjectSizer} rather than eviction
+ * being driven by the number of Sessions.  Since the Session Region is a {@literal PARTITION} Region,
+ * the partition's {@literal local-max-memory} is set to the same maximum.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.EvictionAttributes
+ * @see com.gemstone.gemfire.cache.util.ObjectSizer
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.RegionAttributesFactoryBean
+ * @since 1.0.0
+ */
+public class SessionRegionEvictionBeanPostProcessor implements BeanPostProcessor {
+
+	public static final String SESSION_REGION_ATTRIBUTES_BEAN_NAME = "sessionRegionAttributes";
+
+	private final int maxMemory;
+
+	private final EvictionAction evictionAction;
+
+	private final ObjectSizer objectSizer;
+
+	/**
+	 * Constructs an instance of the SessionRegionEvictionBeanPostProcessor.
+	 *
+	 * @param objectSizer {@link ObjectSizer} used to measure Session entries.
+	 * @param maxMemory maximum memory in megabytes used by Sessions on this server; 0 or less disables eviction.
+	 * @param evictionAction {@link EvictionAction} performed on the least recently used Sessions.
+	 */
+	public SessionRegionEvictionBeanPostProcessor(ObjectSizer objectSizer, int maxMemory,
+			EvictionAction evictionAction) {
+
+		Assert.notNull(objectSizer, "ObjectSizer must not be null");
+		Assert.notNull(evictionAction, "EvictionAction must not be null");
+
+		this.objectSizer = objectSizer;
+		this.maxMemory = maxMemory;
+		this.evictionAction = evictionAction;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		if (maxMemory > 0 && bean instanceof RegionAttributesFactoryBean
+				&& SESSION_REGION_ATTRIBUTES_BEAN_NAME.equals(beanName)) {
+
+			RegionAttributesFactoryBean sessionRegionAttributes = (RegionAttributesFactoryBean) bean;
+
+			sessionRegionAttributes.setEvictionAttributes(
+				EvictionAttributes.createLRUMemoryAttributes(maxMemory, objectSizer, evictionAction));
+
+			sessionRegionAttributes.setPartitionAttributes(
+				new PartitionAttributesFactory().setLocalMaxMemory(maxMemory).create());
+		}
+
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+}
@@ -0,0 +1,62 @@
+package example.server;
+
+import com.gemstone.gemfire.cache.ExpirationAction;
+import com.gemstone.gemfire.cache.ExpirationAttributes;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+
+/**
+ * The SessionRegionExpirationBeanPostProcessor class is a Spring {@link BeanPostProcessor} that overrides
+ * the idle timeout of the {@literal ClusteredSpringSessions} Region's entries, declared by Spring Session Data
+ * GemFire's {@literal sessionRegionAttributes} bean from {@literal @EnableGemFireHttpSession}'s
+ * {@literal maxInactiveIntervalInSeconds}, before the Region is created.
+ *
+ * Like Spring Session Data GemFire, idle Sessions are invalidated.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.ExpirationAttributes
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.RegionAttributesFactoryBean
+ * @see example.server.SessionRegionEvictionBeanPostProcessor
+ * @since 1.0.0
+ */
+public class SessionRegionExpirationBeanPostProcessor implements BeanPostProcessor {
+
+	private final int maxInactiveIntervalInSeconds;
+
+	/**
+	 * Constructs an instance of the SessionRegionExpirationBeanPostProcessor.
+	 *
+	 * @param maxInactiveIntervalInSeconds number of seconds after which an idle Session expires; 0 or less keeps
+	 * the {@literal @EnableGemFireHttpSession} configuration.
+	 */
+	public SessionRegionExpirationBeanPostProcessor(int maxInactiveIntervalInSeconds) {
+		this.maxInactiveIntervalInSeconds = maxInactiveIntervalInSeconds;
+	}
+
+	public int getMaxInactiveIntervalInSeconds() {
+		return maxInactiveIntervalInSeconds;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		if (maxInactiveIntervalInSeconds > 0 && bean instanceof RegionAttributesFactoryBean
+				&& SessionRegionEvictionBeanPostProcessor.SESSION_REGION_ATTRIBUTES_BEAN_NAME.equals(beanName)) {
+
+			RegionAttributesFactoryBean sessionRegionAttributes = (RegionAttributesFactoryBean) bean;
+
+			sessionRegionAttributes.setStatisticsEnabled(true);
+			sessionRegionAttributes.setEntryIdleTimeout(
+				new ExpirationAttributes(maxInactiveIntervalInSeconds, ExpirationAction.INVALIDATE));
+		}
+
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+}
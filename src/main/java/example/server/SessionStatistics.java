@@ -0,0 +1,101 @@
+package example.server;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+import example.support.Histogram;
+
+/**
+ * The SessionStatistics class records the size of Sessions saved to the {@literal ClusteredSpringSessions} Region
+ * and is exported as a JMX MBean so that the Session size distribution can be used for capacity planning.
+ *
+ * With the split storage layout, the Session sizes include the sizes of the Session's attributes, while the size
+ * of each attribute entry saved to the {@literal ClusteredSpringSessionAttributes} Region is recorded separately.
+ *
+ * @author John Blum
+ * @see example.support.Histogram
+ * @see org.springframework.jmx.export.annotation.ManagedResource
+ * @since 1.0.0
+ */
+@ManagedResource(objectName = "example.server:type=SessionStatistics",
+	description = "Spring Session statistics for the ClusteredSpringSessions Region")
+@SuppressWarnings("unused")
+public class SessionStatistics {
+
+	private final AtomicLong rejectedOversizedSessions = new AtomicLong(0L);
+
+	private final Histogram sessionAttributeSizes = new Histogram();
+	private final Histogram sessionSizes = new Histogram();
+
+	public void recordSessionAttributeSize(int size) {
+		sessionAttributeSizes.record(size);
+	}
+
+	public void recordSessionSize(long size) {
+		sessionSizes.record(size);
+	}
+
+	public void recordRejectedOversizedSession() {
+		rejectedOversizedSessions.incrementAndGet();
+	}
+
+	@ManagedAttribute(description = "Number of Sessions rejected for exceeding the maximum Session size")
+	public long getRejectedOversizedSessionCount() {
+		return rejectedOversizedSessions.get();
+	}
+
+	@ManagedAttribute(description = "Number of Session saves measured")
+	public long getSessionSaveCount() {
+		return sessionSizes.getCount();
+	}
+
+	@ManagedAttribute(description = "Maximum Session size in bytes")
+	public long getSessionSizeMax() {
+		return sessionSizes.getMax();
+	}
+
+	@ManagedAttribute(description = "Mean Session size in bytes")
+	public long getSessionSizeMean() {
+		return sessionSizes.getMean();
+	}
+
+	@ManagedAttribute(description = "Upper bound of the 99th percentile Session size in bytes")
+	public long getSessionSizeP99() {
+		return sessionSizes.getPercentile(99.0d);
+	}
+
+	@ManagedAttribute(description = "Session size histogram; number of saves per size bucket in bytes")
+	public String[] getSessionSizeHistogram() {
+		return sessionSizes.toStringArray();
+	}
+
+	@ManagedAttribute(description = "Number of Session attribute saves measured (split storage layout)")
+	public long getSessionAttributeSaveCount() {
+		return sessionAttributeSizes.getCount();
+	}
+
+	@ManagedAttribute(description = "Maximum Session attribute size in bytes (split storage layout)")
+	public long getSessionAttributeSizeMax() {
+		return sessionAttributeSizes.getMax();
+	}
+
+	@ManagedAttribute(description = "Upper bound of the 99th percentile Session attribute size in bytes"
+		+ " (split storage layout)")
+	public long getSessionAttributeSizeP99() {
+		return sessionAttributeSizes.getPercentile(99.0d);
+	}
+
+	@ManagedAttribute(description = "Session attribute size histogram; number of saves per size bucket in bytes"
+		+ " (split storage layout)")
+	public String[] getSessionAttributeSizeHistogram() {
+		return sessionAttributeSizes.toStringArray();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s { sessionSizes = %2$s, rejectedOversizedSessions = %3$d }",
+			getClass().getSimpleName(), sessionSizes, getRejectedOversizedSessionCount());
+	}
+}
@@ -1,23 +1,40 @@
 package example.server;
 
+import java.io.File;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import com.gemstone.gemfire.cache.Cache;
+import com.gemstone.gemfire.cache.EvictionAction;
+import com.gemstone.gemfire.cache.PartitionAttributes;
+import com.gemstone.gemfire.cache.PartitionAttributesFactory;
+import com.gemstone.gemfire.cache.Region;
 import com.gemstone.gemfire.cache.server.CacheServer;
+import com.gemstone.gemfire.cache.util.ObjectSizer;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
 import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.RegionAttributesFactoryBean;
 import org.springframework.data.gemfire.server.CacheServerFactoryBean;
+import org.springframework.session.ExpiringSession;
 import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import example.support.NumberUtils;
+import example.support.SessionAttributeKey;
+import example.support.SessionSnapshots;
+import example.support.SplitGemFireOperationsSessionRepository;
+import example.support.StartupProfiler;
 
 /**
  * The SpringBootGemFireServer class is a Spring Boot application that configures and bootstraps a GemFire Server
@@ -51,12 +68,63 @@ public class SpringBootGemFireServer {
 		return new PropertySourcesPlaceholderConfigurer();
 	}
 
+	@Bean
+	static StartupProfiler startupProfiler(
+		@Value("${startup.profile.enabled:false}") boolean report,
+		@Value("${startup.exit-after-ready:false}") boolean exitAfterReady)
+	{
+		return new StartupProfiler(report, exitAfterReady);
+	}
+
+	/**
+	 * Configures memory LRU eviction of the Sessions.  Eviction estimates the heap used by the Sessions with
+	 * GemFire's {@link ObjectSizer#REFLECTION_SIZE}, which unlike the {@link SessionObjectSizer} does not serialize
+	 * the Sessions updated with a delta (and stored deserialized) each time they are updated.
+	 */
+	@Bean
+	static SessionRegionEvictionBeanPostProcessor sessionRegionEvictionBeanPostProcessor(
+		@Value("${gemfire.session.region.eviction.max-memory:0}") int maxMemory,
+		@Value("${gemfire.session.region.eviction.action:local-destroy}") String evictionAction)
+	{
+		return new SessionRegionEvictionBeanPostProcessor(ObjectSizer.REFLECTION_SIZE, maxMemory,
+			EvictionAction.parseAction(evictionAction));
+	}
+
+	/**
+	 * Overrides the 1 second Session timeout of {@literal @EnableGemFireHttpSession}, which suits the expiration
+	 * tests and demonstrations, when {@literal gemfire.session.max-inactive-interval} is greater than 0
+	 * (e.g. for stress tests and production-like deployments).
+	 */
+	@Bean
+	static SessionRegionExpirationBeanPostProcessor sessionRegionExpirationBeanPostProcessor(
+		@Value("${gemfire.session.max-inactive-interval:0}") int maxInactiveIntervalInSeconds)
+	{
+		return new SessionRegionExpirationBeanPostProcessor(maxInactiveIntervalInSeconds);
+	}
+
+	/**
+	 * Configures the GemFire distributed system properties.
+	 *
+	 * Starting the JMX Manager and the embedded Locator adds to the server's startup time.  When
+	 * {@literal gemfire.manager.start-lazily} is {@literal true}, the JMX Manager is not started with the cache,
+	 * but on demand, when a JMX client (e.g. Gfsh) asks the Locator for a Manager.  When
+	 * {@literal gemfire.locator.enabled} is {@literal false}, no Locator is embedded, which suits deployments where
+	 * cache clients connect to the {@link CacheServer} directly.  Since a lazily started JMX Manager is only started
+	 * when a Locator asks for it, the two options are mutually exclusive unless the server joins external Locators
+	 * ({@literal gemfire.locators}).
+	 */
 	@Bean
 	Properties gemfireProperties(
+		@Value("${gemfire.locator.enabled:true}") boolean locatorEnabled,
 		@Value("${gemfire.locator.host-port:localhost[10334]}") String locatorHostPort,
 		@Value("${gemfire.locators:}") String locators,
-		@Value("${gemfire.manager.port:1099}") int managerPort)
+		@Value("${gemfire.manager.port:1099}") int managerPort,
+		@Value("${gemfire.manager.start-lazily:false}") boolean managerStartLazily)
 	{
+		Assert.isTrue(!(managerStartLazily && !locatorEnabled && !StringUtils.hasText(locators)),
+			"gemfire.manager.start-lazily requires a Locator; with gemfire.locator.enabled=false"
+				+ " and no gemfire.locators, the JMX Manager could never start");
+
 		Properties gemfireProperties = new Properties();
 
 		gemfireProperties.setProperty("name", applicationName());
@@ -64,12 +132,12 @@ public class SpringBootGemFireServer {
 		gemfireProperties.setProperty("log-level", logLevel());
 		gemfireProperties.setProperty("jmx-manager", "true");
 		gemfireProperties.setProperty("jmx-manager-port", String.valueOf(managerPort));
-		gemfireProperties.setProperty("jmx-manager-start", "true");
+		gemfireProperties.setProperty("jmx-manager-start", String.valueOf(!managerStartLazily));
 
 		if (StringUtils.hasText(locators)) {
 			gemfireProperties.setProperty("locators", locators);
 		}
-		else {
+		else if (locatorEnabled) {
 			gemfireProperties.setProperty("start-locator", locatorHostPort);
 		}
 
@@ -85,20 +153,37 @@ public class SpringBootGemFireServer {
 	}
 
 	@Bean
-	CacheFactoryBean gemfireCache(@Qualifier("gemfireProperties") Properties gemfireProperties) {
+	CacheFactoryBean gemfireCache(@Qualifier("gemfireProperties") Properties gemfireProperties,
+			@Value("${gemfire.resource-manager.critical-heap-percentage:90}") float criticalHeapPercentage,
+			@Value("${gemfire.resource-manager.eviction-heap-percentage:75}") float evictionHeapPercentage) {
+
 		CacheFactoryBean gemfireCache = new CacheFactoryBean();
 
 		gemfireCache.setClose(true);
+		gemfireCache.setCriticalHeapPercentage(criticalHeapPercentage);
+		gemfireCache.setEvictionHeapPercentage(evictionHeapPercentage);
 		gemfireCache.setProperties(gemfireProperties);
 
 		return gemfireCache;
 	}
 
+	/**
+	 * Configures the GemFire {@link CacheServer} serving the cache clients (e.g. the Web application tier).
+	 *
+	 * By default, the {@link CacheServer} dedicates a thread to each client connection.  Setting
+	 * {@literal gemfire.cache.server.max-threads} to a value greater than 0 switches the {@link CacheServer}
+	 * to selector (NIO) mode, where a bounded pool of worker threads services all client connections.
+	 */
 	@Bean
 	CacheServerFactoryBean gemfireCacheServer(Cache gemfireCache,
 			@Value("${gemfire.cache.server.bind-address:localhost}") String bindAddress,
 			@Value("${gemfire.cache.server.hostname-for-clients:localhost}") String hostnameForClients,
-			@Value("${gemfire.cache.server.port:"+GEMFIRE_CACHE_SERVER_PORT+ "}") int port) {
+			@Value("${gemfire.cache.server.port:"+GEMFIRE_CACHE_SERVER_PORT+ "}") int port,
+			@Value("${gemfire.cache.server.max-connections:"+CacheServer.DEFAULT_MAX_CONNECTIONS+"}") int maxConnections,
+			@Value("${gemfire.cache.server.max-threads:"+CacheServer.DEFAULT_MAX_THREADS+"}") int maxThreads,
+			@Value("${gemfire.cache.server.max-message-count:"+CacheServer.DEFAULT_MAXIMUM_MESSAGE_COUNT+"}") int maxMessageCount,
+			@Value("${gemfire.cache.server.message-time-to-live:"+CacheServer.DEFAULT_MESSAGE_TIME_TO_LIVE+"}") int messageTimeToLive,
+			@Value("${gemfire.cache.server.socket-buffer-size:"+CacheServer.DEFAULT_SOCKET_BUFFER_SIZE+"}") int socketBufferSize) {
 
 		CacheServerFactoryBean gemfireCacheServer = new CacheServerFactoryBean();
 
@@ -106,9 +191,158 @@ public class SpringBootGemFireServer {
 		gemfireCacheServer.setCache(gemfireCache);
 		gemfireCacheServer.setBindAddress(bindAddress);
 		gemfireCacheServer.setHostNameForClients(hostnameForClients);
+		gemfireCacheServer.setMaxConnections(maxConnections);
+		gemfireCacheServer.setMaxMessageCount(maxMessageCount);
+		gemfireCacheServer.setMaxThreads(maxThreads);
 		gemfireCacheServer.setMaxTimeBetweenPings(NumberUtils.intValue(TimeUnit.MINUTES.toMillis(1)));
+		gemfireCacheServer.setMessageTimeToLive(messageTimeToLive);
 		gemfireCacheServer.setPort(port);
+		gemfireCacheServer.setSocketBufferSize(socketBufferSize);
 
 		return gemfireCacheServer;
 	}
+
+	@Bean
+	HeapMonitor heapMonitor(
+			@Value("${gemfire.resource-manager.critical-heap-percentage:90}") float criticalHeapPercentage,
+			@Value("${gemfire.resource-manager.eviction-heap-percentage:75}") float evictionHeapPercentage,
+			@Value("${gemfire.session.creation.heap-percentage:85}") float sessionCreationHeapPercentage) {
+
+		return new HeapMonitor(evictionHeapPercentage, sessionCreationHeapPercentage, criticalHeapPercentage);
+	}
+
+	@Bean
+	SessionStatistics sessionStatistics() {
+		return new SessionStatistics();
+	}
+
+	@Bean
+	SessionCacheWriter sessionCacheWriter(
+			@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+				Region<Object, ExpiringSession> sessionRegion,
+			SessionStatistics sessionStatistics, HeapMonitor heapMonitor,
+			@Value("${gemfire.session.max-size:0}") int maxSessionSize,
+			@Value("${gemfire.session.storage-layout:default}") String storageLayout) {
+
+		SessionCacheWriter sessionCacheWriter = new SessionCacheWriter(SessionObjectSizer.INSTANCE, sessionStatistics,
+			heapMonitor, maxSessionSize, "split".equalsIgnoreCase(storageLayout));
+
+		sessionRegion.getAttributesMutator().setCacheWriter(sessionCacheWriter);
+
+		return sessionCacheWriter;
+	}
+
+	/**
+	 * Imports the Sessions, and with the split storage layout, the Session attributes, of the snapshot file given by
+	 * {@literal gemfire.session.snapshot.import} once the server has started.
+	 */
+	@Bean
+	CommandLineRunner sessionSnapshotImporter(Cache gemfireCache,
+			@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+				Region<Object, ExpiringSession> sessionRegion,
+			@Value("${gemfire.session.snapshot.import:}") String snapshotImport,
+			@Value("${gemfire.session.snapshot.batch-size:"+SessionSnapshots.DEFAULT_BATCH_SIZE+"}") int batchSize) {
+
+		return args -> {
+			if (StringUtils.hasText(snapshotImport)) {
+				Region<SessionAttributeKey, Object> sessionAttributesRegion =
+					gemfireCache.getRegion(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME);
+
+				System.err.printf("Imported Sessions from [%1$s] %2$s%n", snapshotImport,
+					SessionSnapshots.importSnapshot(sessionRegion, sessionAttributesRegion, new File(snapshotImport),
+						batchSize));
+			}
+		};
+	}
+
+	/**
+	 * Configures the {@literal ClusteredSpringSessionAttributes} Region storing each Session attribute as its own
+	 * entry, colocated with the Session's metadata entry in the {@literal ClusteredSpringSessions} Region, when
+	 * {@literal gemfire.session.storage-layout} is {@literal split}.
+	 *
+	 * @see example.support.SplitGemFireOperationsSessionRepository
+	 */
+	@Bean(name = SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME)
+	@ConditionalOnProperty(name = "gemfire.session.storage-layout", havingValue = "split")
+	@SuppressWarnings("unchecked")
+	PartitionedRegionFactoryBean<SessionAttributeKey, Object> sessionAttributesRegion(Cache gemfireCache,
+			@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+				Region<Object, ExpiringSession> sessionRegion) throws Exception {
+
+		PartitionAttributes<Object, ExpiringSession> sessionRegionPartitionAttributes =
+			sessionRegion.getAttributes().getPartitionAttributes();
+
+		PartitionAttributes<SessionAttributeKey, Object> sessionAttributesRegionPartitionAttributes =
+			new PartitionAttributesFactory<SessionAttributeKey, Object>()
+				.setColocatedWith(sessionRegion.getFullPath())
+				.setPartitionResolver(new SessionAttributeKeyPartitionResolver())
+				.setRedundantCopies(sessionRegionPartitionAttributes.getRedundantCopies())
+				.setTotalNumBuckets(sessionRegionPartitionAttributes.getTotalNumBuckets())
+				.create();
+
+		RegionAttributesFactoryBean sessionAttributesRegionAttributes = new RegionAttributesFactoryBean();
+
+		sessionAttributesRegionAttributes.setKeyConstraint(SessionAttributeKey.class);
+		sessionAttributesRegionAttributes.setPartitionAttributes(sessionAttributesRegionPartitionAttributes);
+		sessionAttributesRegionAttributes.afterPropertiesSet();
+
+		PartitionedRegionFactoryBean<SessionAttributeKey, Object> sessionAttributesRegion =
+			new PartitionedRegionFactoryBean<>();
+
+		sessionAttributesRegion.setAttributes(sessionAttributesRegionAttributes.getObject());
+		sessionAttributesRegion.setCache(gemfireCache);
+		sessionAttributesRegion.setClose(false);
+
+		return sessionAttributesRegion;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "gemfire.session.storage-layout", havingValue = "split")
+	SessionAttributesCascadingCacheListener sessionAttributesCascadingCacheListener(
+			@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+				Region<Object, ExpiringSession> sessionRegion,
+			@Qualifier(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME)
+				Region<SessionAttributeKey, Object> sessionAttributesRegion) {
+
+		SessionAttributesCascadingCacheListener sessionAttributesCascadingCacheListener =
+			new SessionAttributesCascadingCacheListener(sessionAttributesRegion);
+
+		sessionRegion.getAttributesMutator().addCacheListener(sessionAttributesCascadingCacheListener);
+
+		return sessionAttributesCascadingCacheListener;
+	}
+
+	/**
+	 * Guards writes to the {@literal ClusteredSpringSessionAttributes} Region; the per-entry size limit applies to
+	 * each attribute, while the {@link SessionCacheWriter} enforces the limit on the Session as a whole.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "gemfire.session.storage-layout", havingValue = "split")
+	SessionAttributesCacheWriter sessionAttributesCacheWriter(
+			@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+				Region<Object, ExpiringSession> sessionRegion,
+			@Qualifier(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME)
+				Region<SessionAttributeKey, Object> sessionAttributesRegion,
+			SessionStatistics sessionStatistics,
+			@Value("${gemfire.session.max-size:0}") int maxSessionSize) {
+
+		SessionAttributesCacheWriter sessionAttributesCacheWriter = new SessionAttributesCacheWriter(sessionRegion,
+			SessionObjectSizer.INSTANCE, sessionStatistics, maxSessionSize);
+
+		sessionAttributesRegion.getAttributesMutator().setCacheWriter(sessionAttributesCacheWriter);
+
+		return sessionAttributesCacheWriter;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "gemfire.session.storage-layout", havingValue = "split")
+	SessionAttributesOrphanSweeper sessionAttributesOrphanSweeper(
+			@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+				Region<Object, ExpiringSession> sessionRegion,
+			@Qualifier(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME)
+				Region<SessionAttributeKey, Object> sessionAttributesRegion,
+			@Value("${gemfire.session.attributes.orphan-sweep-interval:60}") long sweepIntervalInSeconds) {
+
+		return new SessionAttributesOrphanSweeper(sessionRegion, sessionAttributesRegion, sweepIntervalInSeconds);
+	}
 }
@@ -0,0 +1,116 @@
+package example.support;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * The Histogram class is a thread-safe, lock-free histogram recording {@literal long} values (e.g. sizes in bytes
+ * or latencies in microseconds) into power-of-two buckets.
+ *
+ * Bucket {@literal n} counts values in the range (2^(n-1), 2^n], so the bucket's upper bound is never more than
+ * twice the values it contains.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class Histogram {
+
+	protected static final int BUCKET_COUNT = Long.SIZE;
+
+	private final AtomicLong count = new AtomicLong(0L);
+	private final AtomicLong total = new AtomicLong(0L);
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+	static int bucketIndex(long value) {
+		return (value > 1L ? Math.min(Long.SIZE - Long.numberOfLeadingZeros(value - 1L), BUCKET_COUNT - 1) : 0);
+	}
+
+	static long bucketUpperBound(int index) {
+		return (index < BUCKET_COUNT - 1 ? 1L << index : Long.MAX_VALUE);
+	}
+
+	public void record(long value) {
+		buckets.incrementAndGet(bucketIndex(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+		max.accumulate(value);
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getMean() {
+		long count = getCount();
+		return (count > 0L ? getTotal() / count : 0L);
+	}
+
+	public long getTotal() {
+		return total.get();
+	}
+
+	/**
+	 * Returns the upper bound of the bucket containing the given percentile of all recorded values.
+	 *
+	 * @param percentile {@literal double} value between 0.0 and 100.0.
+	 * @return the upper bound of the bucket containing the given percentile, or 0 if no values were recorded.
+	 */
+	public long getPercentile(double percentile) {
+		long count = getCount();
+		long threshold = (long) Math.ceil(count * (percentile / 100.0d));
+		long cumulative = 0L;
+
+		for (int index = 0; index < BUCKET_COUNT && count > 0L; index++) {
+			cumulative += buckets.get(index);
+
+			if (cumulative >= threshold) {
+				return bucketUpperBound(index);
+			}
+		}
+
+		return 0L;
+	}
+
+	/**
+	 * Returns the non-empty buckets of this histogram, keyed and sorted by the bucket's upper bound.
+	 *
+	 * @return a {@link Map} of bucket upper bound to the number of values recorded in the bucket.
+	 */
+	public Map<Long, Long> toMap() {
+		Map<Long, Long> map = new TreeMap<>();
+
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			long bucketCount = buckets.get(index);
+
+			if (bucketCount > 0L) {
+				map.put(bucketUpperBound(index), bucketCount);
+			}
+		}
+
+		return map;
+	}
+
+	public String[] toStringArray() {
+		return toMap().entrySet().stream()
+			.map(entry -> String.format("<= %1$d: %2$d", entry.getKey(), entry.getValue()))
+			.toArray(String[]::new);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ count = %1$d, mean = %2$d, p50 <= %3$d, p99 <= %4$d, max = %5$d }",
+			getCount(), getMean(), getPercentile(50.0d), getPercentile(99.0d), getMax());
+	}
+}
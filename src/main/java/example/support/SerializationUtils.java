@@ -0,0 +1,51 @@
+package example.support;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.gemstone.gemfire.DataSerializer;
+
+/**
+ * The SerializationUtils class is an abstract utility class containing support for measuring objects
+ * serialized with GemFire's {@link DataSerializer}.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.DataSerializer
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public abstract class SerializationUtils {
+
+	private static final OutputStream NULL_OUTPUT_STREAM = new OutputStream() {
+
+		@Override
+		public void write(int value) {
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+		}
+	};
+
+	/**
+	 * Returns the number of bytes the given value is serialized to by {@link DataSerializer#writeObject},
+	 * serializing the value to a stream that only counts the bytes written.
+	 *
+	 * @param value {@link Object} to measure.
+	 * @return the serialized size of the value in bytes.
+	 * @throws IllegalArgumentException if the value cannot be serialized.
+	 */
+	public static int serializedSize(Object value) {
+		DataOutputStream out = new DataOutputStream(NULL_OUTPUT_STREAM);
+
+		try {
+			DataSerializer.writeObject(value, out);
+			return out.size();
+		}
+		catch (IOException cause) {
+			throw new IllegalArgumentException(String.format("Failed to measure the serialized size of [%s]",
+				(value != null ? value.getClass().getName() : null)), cause);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package example.support;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.gemstone.gemfire.DataSerializable;
+
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The SessionAttributeKey class is the key of a Session attribute stored as its own entry in
+ * the {@literal ClusteredSpringSessionAttributes} Region, identifying the attribute by the ID of the Session
+ * and the name of the attribute.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.DataSerializable
+ * @see example.support.SplitGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class SessionAttributeKey implements DataSerializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String attributeName;
+	private String sessionId;
+
+	/**
+	 * Constructs an uninitialized SessionAttributeKey used for deserialization.
+	 */
+	public SessionAttributeKey() {
+	}
+
+	public SessionAttributeKey(String sessionId, String attributeName) {
+		this.sessionId = sessionId;
+		this.attributeName = attributeName;
+	}
+
+	public String getAttributeName() {
+		return attributeName;
+	}
+
+	public String getSessionId() {
+		return sessionId;
+	}
+
+	@Override
+	public void toData(DataOutput out) throws IOException {
+		out.writeUTF(sessionId);
+		out.writeUTF(attributeName);
+	}
+
+	@Override
+	public void fromData(DataInput in) throws IOException {
+		sessionId = in.readUTF();
+		attributeName = in.readUTF();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+
+		if (!(obj instanceof SessionAttributeKey)) {
+			return false;
+		}
+
+		SessionAttributeKey that = (SessionAttributeKey) obj;
+
+		return (ObjectUtils.nullSafeEquals(this.getSessionId(), that.getSessionId())
+			&& ObjectUtils.nullSafeEquals(this.getAttributeName(), that.getAttributeName()));
+	}
+
+	@Override
+	public int hashCode() {
+		int hashValue = 17;
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getSessionId());
+		hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(getAttributeName());
+		return hashValue;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s:%2$s", getSessionId(), getAttributeName());
+	}
+}
@@ -0,0 +1,412 @@
+package example.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.gemstone.gemfire.DataSerializer;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.execute.Function;
+import com.gemstone.gemfire.cache.execute.FunctionAdapter;
+import com.gemstone.gemfire.cache.execute.FunctionContext;
+import com.gemstone.gemfire.cache.execute.FunctionException;
+import com.gemstone.gemfire.cache.execute.FunctionService;
+import com.gemstone.gemfire.cache.execute.RegionFunctionContext;
+import com.gemstone.gemfire.cache.execute.ResultCollector;
+import com.gemstone.gemfire.cache.execute.ResultSender;
+import com.gemstone.gemfire.cache.partition.PartitionRegionHelper;
+import com.gemstone.gemfire.distributed.DistributedMember;
+
+import org.springframework.session.ExpiringSession;
+import org.springframework.util.Assert;
+
+/**
+ * The SessionSnapshots class is an abstract utility class used to export the Sessions stored in
+ * the {@literal ClusteredSpringSessions} Region to a compact, local snapshot file and to import the Sessions
+ * from a snapshot file into a (fresh) GemFire cluster.
+ *
+ * Sessions are exported with the {@link ExportFunction}, which runs on every member hosting the Region in parallel
+ * and streams batches of the member's (primary) Sessions back as they are read.  The batches are written to
+ * a GZIP compressed file in the order they arrive.  The Sessions are read through {@link Region.Entry Region entries}
+ * rather than with {@link Region#get(Object)}, so an export does not reset the idle expiration of the Sessions.
+ * The snapshot starts with a header containing a magic number and a format version, followed by a stream of
+ * key/Session records written with GemFire's {@link DataSerializer} and, since format version 2, a stream of
+ * key/attribute records of the split storage layout's {@literal ClusteredSpringSessionAttributes} Region, which is
+ * empty for the default layout.  Sessions are imported in batches with {@link Region#putAll(Map)}, skipping any
+ * Session that expired since it was exported, along with its attributes.  Snapshots of format version 1 can
+ * still be imported.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.DataSerializer
+ * @see com.gemstone.gemfire.cache.Region
+ * @see com.gemstone.gemfire.cache.execute.FunctionService
+ * @see org.springframework.session.ExpiringSession
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public abstract class SessionSnapshots {
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	protected static final int SNAPSHOT_MAGIC_NUMBER = 0x53534E50;
+
+	protected static final short SNAPSHOT_FORMAT_VERSION = 2;
+	protected static final short SNAPSHOT_FORMAT_VERSION_WITHOUT_ATTRIBUTES = 1;
+
+	public static Summary exportSnapshot(Region<Object, ExpiringSession> sessionRegion, File snapshot, int batchSize)
+			throws IOException {
+
+		return exportSnapshot(sessionRegion, null, snapshot, batchSize);
+	}
+
+	/**
+	 * Exports the Sessions and, when the {@literal ClusteredSpringSessionAttributes} Region of the split storage
+	 * layout is given, the Session attributes to the snapshot file.
+	 *
+	 * @param sessionRegion {@link Region} storing the Sessions (or the Sessions' metadata entries).
+	 * @param sessionAttributesRegion {@link Region} storing the Session attributes; may be {@literal null}.
+	 * @param snapshot snapshot {@link File} to write.
+	 * @param batchSize number of entries sent back by each member at a time.
+	 * @return a {@link Summary} of the export.
+	 * @throws IOException if the snapshot file cannot be written.
+	 */
+	public static Summary exportSnapshot(Region<Object, ExpiringSession> sessionRegion,
+			Region<SessionAttributeKey, Object> sessionAttributesRegion, File snapshot, int batchSize)
+			throws IOException {
+
+		Assert.notNull(sessionRegion, "Region must not be null");
+		Assert.notNull(snapshot, "Snapshot File must not be null");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new GZIPOutputStream(new FileOutputStream(snapshot))))) {
+
+			out.writeInt(SNAPSHOT_MAGIC_NUMBER);
+			out.writeShort(SNAPSHOT_FORMAT_VERSION);
+			out.writeLong(System.currentTimeMillis());
+
+			Summary summary = export(sessionRegion, out, batchSize);
+
+			out.writeBoolean(false);
+
+			if (sessionAttributesRegion != null) {
+				summary.attributes = export(sessionAttributesRegion, out, batchSize).getProcessed();
+			}
+
+			out.writeBoolean(false);
+
+			return summary;
+		}
+	}
+
+	private static Summary export(Region<?, ?> region, DataOutputStream out, int batchSize) {
+		SnapshotWritingResultCollector resultCollector = new SnapshotWritingResultCollector(out);
+
+		FunctionService.onRegion(region).withArgs(batchSize).withCollector(resultCollector)
+			.execute(new ExportFunction());
+
+		return resultCollector.getResult();
+	}
+
+	public static Summary importSnapshot(Region<Object, ExpiringSession> sessionRegion, File snapshot, int batchSize)
+			throws IOException {
+
+		return importSnapshot(sessionRegion, null, snapshot, batchSize);
+	}
+
+	/**
+	 * Imports the Sessions and, when the {@literal ClusteredSpringSessionAttributes} Region of the split storage
+	 * layout is given, the attributes of the imported Sessions from the snapshot file.
+	 *
+	 * The attributes are imported after all Sessions so that the server accepts them.  The attributes of expired
+	 * Sessions are skipped, as are all attributes when no Session attributes Region is given.
+	 *
+	 * @param sessionRegion {@link Region} storing the Sessions (or the Sessions' metadata entries).
+	 * @param sessionAttributesRegion {@link Region} storing the Session attributes; may be {@literal null}.
+	 * @param snapshot snapshot {@link File} to read.
+	 * @param batchSize number of entries put at a time.
+	 * @return a {@link Summary} of the import.
+	 * @throws IOException if the snapshot file cannot be read.
+	 */
+	public static Summary importSnapshot(Region<Object, ExpiringSession> sessionRegion,
+			Region<SessionAttributeKey, Object> sessionAttributesRegion, File snapshot, int batchSize)
+			throws IOException {
+
+		Assert.notNull(sessionRegion, "Region must not be null");
+		Assert.isTrue(snapshot != null && snapshot.isFile(),
+			String.format("Snapshot File [%s] does not exist", snapshot));
+
+		Summary summary = new Summary();
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new GZIPInputStream(new FileInputStream(snapshot))))) {
+
+			int magicNumber = in.readInt();
+			short version = in.readShort();
+
+			Assert.state(magicNumber == SNAPSHOT_MAGIC_NUMBER,
+				String.format("File [%s] is not a Session snapshot", snapshot));
+
+			Assert.state(version == SNAPSHOT_FORMAT_VERSION || version == SNAPSHOT_FORMAT_VERSION_WITHOUT_ATTRIBUTES,
+				String.format("Session snapshot format version [%1$d] is not supported; expected version [%2$d]",
+					version, SNAPSHOT_FORMAT_VERSION));
+
+			in.readLong();
+
+			Set<Object> importedSessionIds = new HashSet<>();
+
+			Map<Object, ExpiringSession> batch = new HashMap<>(batchSize);
+
+			while (in.readBoolean()) {
+				Object sessionId = DataSerializer.readObject(in);
+				ExpiringSession session = DataSerializer.readObject(in);
+
+				if (session.isExpired()) {
+					summary.skipped++;
+				}
+				else {
+					batch.put(sessionId, session);
+					importedSessionIds.add(sessionId);
+					summary.processed++;
+				}
+
+				if (batch.size() >= batchSize) {
+					sessionRegion.putAll(batch);
+					batch.clear();
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				sessionRegion.putAll(batch);
+			}
+
+			if (version == SNAPSHOT_FORMAT_VERSION && sessionAttributesRegion != null) {
+				importAttributes(sessionAttributesRegion, in, importedSessionIds, batchSize, summary);
+			}
+		}
+		catch (ClassNotFoundException cause) {
+			throw new IOException(String.format("Failed to read Session snapshot [%s]", snapshot), cause);
+		}
+
+		return summary;
+	}
+
+	private static void importAttributes(Region<SessionAttributeKey, Object> sessionAttributesRegion,
+			DataInputStream in, Set<Object> importedSessionIds, int batchSize, Summary summary)
+			throws ClassNotFoundException, IOException {
+
+		Map<SessionAttributeKey, Object> batch = new HashMap<>(batchSize);
+
+		while (in.readBoolean()) {
+			SessionAttributeKey sessionAttributeKey = DataSerializer.readObject(in);
+			Object attributeValue = DataSerializer.readObject(in);
+
+			if (importedSessionIds.contains(sessionAttributeKey.getSessionId())) {
+				batch.put(sessionAttributeKey, attributeValue);
+				summary.attributes++;
+			}
+
+			if (batch.size() >= batchSize) {
+				sessionAttributesRegion.putAll(batch);
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			sessionAttributesRegion.putAll(batch);
+		}
+	}
+
+	/**
+	 * The ExportFunction class is a GemFire {@link Function} executed on the Session Region that sends
+	 * the executing member's Sessions back to the caller in batches of alternating keys and Sessions.
+	 *
+	 * The function is optimized for write so that, on a {@literal PARTITION} Region, each member only sends
+	 * the Sessions of the buckets for which it is primary.  Invalidated (e.g. expired) entries are skipped.
+	 * The function is not highly available since a retry would send the same Sessions again.
+	 */
+	public static class ExportFunction extends FunctionAdapter {
+
+		public static final String ID = ExportFunction.class.getName();
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+
+		@Override
+		public boolean isHA() {
+			return false;
+		}
+
+		@Override
+		public boolean optimizeForWrite() {
+			return true;
+		}
+
+		@Override
+		public void execute(FunctionContext functionContext) {
+			RegionFunctionContext context = (RegionFunctionContext) functionContext;
+
+			int batchSize = (context.getArguments() instanceof Integer ? (Integer) context.getArguments()
+				: DEFAULT_BATCH_SIZE);
+
+			Region<Object, Object> sessionRegion = (PartitionRegionHelper.isPartitionedRegion(context.getDataSet())
+				? PartitionRegionHelper.<Object, Object>getLocalDataForContext(context)
+				: context.<Object, Object>getDataSet());
+
+			ResultSender<Object> resultSender = context.getResultSender();
+
+			ArrayList<Object> batch = new ArrayList<>(batchSize * 2);
+
+			for (Region.Entry<?, ?> sessionEntry : sessionRegion.entrySet(false)) {
+				Object session = sessionEntry.getValue();
+
+				if (session != null) {
+					batch.add(sessionEntry.getKey());
+					batch.add(session);
+
+					if (batch.size() >= batchSize * 2) {
+						resultSender.sendResult(batch);
+						batch = new ArrayList<>(batchSize * 2);
+					}
+				}
+			}
+
+			resultSender.lastResult(batch);
+		}
+	}
+
+	/**
+	 * The SnapshotWritingResultCollector class is a GemFire {@link ResultCollector} writing the batches of Sessions
+	 * sent by the {@link ExportFunction} to the snapshot as they arrive from each member.  Batches that arrive
+	 * from several members concurrently are written one at a time.
+	 */
+	static class SnapshotWritingResultCollector implements ResultCollector<Object, Summary> {
+
+		private final CountDownLatch resultsEnded = new CountDownLatch(1);
+
+		private final DataOutputStream out;
+
+		private Exception failure;
+
+		private final Summary summary = new Summary();
+
+		SnapshotWritingResultCollector(DataOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public synchronized void addResult(DistributedMember member, Object result) {
+			if (result instanceof Throwable) {
+				throw new FunctionException(String.format("Failed to export the Sessions on member [%s]", member),
+					(Throwable) result);
+			}
+
+			if (failure == null && result instanceof List) {
+				List<?> batch = (List<?>) result;
+
+				try {
+					for (int index = 0; index < batch.size(); index += 2) {
+						out.writeBoolean(true);
+						DataSerializer.writeObject(batch.get(index), out);
+						DataSerializer.writeObject(batch.get(index + 1), out);
+						summary.processed++;
+					}
+				}
+				catch (IOException cause) {
+					failure = cause;
+				}
+			}
+		}
+
+		@Override
+		public void endResults() {
+			resultsEnded.countDown();
+		}
+
+		@Override
+		public synchronized void clearResults() {
+			if (summary.processed > 0 && failure == null) {
+				failure = new IllegalStateException("Session snapshot export cannot be retried");
+			}
+		}
+
+		@Override
+		public Summary getResult() throws FunctionException {
+			try {
+				resultsEnded.await();
+				return result();
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new FunctionException("Interrupted while exporting Sessions", cause);
+			}
+		}
+
+		@Override
+		public Summary getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+			if (!resultsEnded.await(timeout, unit)) {
+				throw new FunctionException(String.format("Sessions were not exported in [%1$d] %2$s",
+					timeout, unit));
+			}
+
+			return result();
+		}
+
+		private synchronized Summary result() {
+			if (failure != null) {
+				throw new FunctionException("Failed to write the Session snapshot", failure);
+			}
+
+			return summary;
+		}
+	}
+
+	/**
+	 * The Summary class records the number of Sessions processed (exported or imported) and skipped
+	 * (invalidated or expired) by a snapshot operation, along with the number of Session attributes processed
+	 * with the split storage layout.
+	 */
+	public static class Summary {
+
+		private long attributes;
+		private long processed;
+		private long skipped;
+
+		public long getAttributes() {
+			return attributes;
+		}
+
+		public long getProcessed() {
+			return processed;
+		}
+
+		public long getSkipped() {
+			return skipped;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ processed = %1$d, skipped = %2$d, attributes = %3$d }", getProcessed(),
+				getSkipped(), getAttributes());
+		}
+	}
+}
@@ -0,0 +1,328 @@
+package example.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.gemstone.gemfire.cache.Region;
+
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.util.Assert;
+
+/**
+ * The SplitGemFireOperationsSessionRepository class is a Spring Session Data GemFire
+ * {@link GemFireOperationsSessionRepository} storing each Session as a small metadata entry in
+ * the {@literal ClusteredSpringSessions} Region and each Session attribute as its own entry in the colocated
+ * {@literal ClusteredSpringSessionAttributes} Region.
+ *
+ * The metadata entry contains the Session's ID, creation time, last accessed time and max inactive interval
+ * along with one marker attribute per Session attribute, holding the attribute's serialized size in bytes.  Since
+ * each marker is its own metadata attribute, concurrent requests adding or removing different attributes of the same
+ * Session send separate deltas that GemFire merges, like the attributes of a Session in the default layout.
+ * The sizes let the server enforce the maximum Session size over the whole Session.
+ *
+ * Changing an attribute only writes the changed attribute (and the metadata) rather than the whole Session.
+ * The metadata is saved before the attributes so that a Session rejected by the server (e.g. for its size or when
+ * shedding load) leaves no attribute entries behind.  Attributes are read lazily, on first access.  The principal
+ * name and security context attributes remain in the metadata entry so that Sessions can still be found by principal
+ * name.  Removing the attributes of destroyed or expired Sessions is the responsibility of the server.
+ *
+ * @author John Blum
+ * @see example.support.SessionAttributeKey
+ * @see org.springframework.session.data.gemfire.GemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class SplitGemFireOperationsSessionRepository extends GemFireOperationsSessionRepository {
+
+	// kept short since the prefix is part of every marker in every metadata entry and delta
+	public static final String ATTRIBUTE_SIZE_SESSION_ATTRIBUTE_NAME_PREFIX = "#size:";
+
+	public static final String SESSION_ATTRIBUTES_REGION_NAME = "ClusteredSpringSessionAttributes";
+
+	protected static final Set<String> METADATA_SESSION_ATTRIBUTE_NAMES = Collections.unmodifiableSet(
+		new HashSet<>(Arrays.asList(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+			"SPRING_SECURITY_CONTEXT")));
+
+	private final Region<SessionAttributeKey, Object> sessionAttributesRegion;
+
+	/**
+	 * Constructs an instance of the SplitGemFireOperationsSessionRepository.
+	 *
+	 * @param template {@link GemfireOperations} used to access the {@literal ClusteredSpringSessions} Region.
+	 * @param sessionAttributesRegion {@link Region} storing the Session attributes.
+	 */
+	public SplitGemFireOperationsSessionRepository(GemfireOperations template,
+			Region<SessionAttributeKey, Object> sessionAttributesRegion) {
+
+		super(template);
+
+		Assert.notNull(sessionAttributesRegion, "Session attributes Region must not be null");
+
+		this.sessionAttributesRegion = sessionAttributesRegion;
+	}
+
+	static String attributeSizeName(String attributeName) {
+		return ATTRIBUTE_SIZE_SESSION_ATTRIBUTE_NAME_PREFIX.concat(attributeName);
+	}
+
+	static boolean isAttributeSizeName(String metadataAttributeName) {
+		return metadataAttributeName.startsWith(ATTRIBUTE_SIZE_SESSION_ATTRIBUTE_NAME_PREFIX);
+	}
+
+	/**
+	 * Returns the names of the attributes of the Session with the given metadata entry.
+	 *
+	 * @param metadata Session metadata entry.
+	 * @return the names of the Session's attributes stored in the {@literal ClusteredSpringSessionAttributes} Region.
+	 */
+	public static Set<String> attributeNames(ExpiringSession metadata) {
+		Set<String> attributeNames = new HashSet<>();
+
+		for (String metadataAttributeName : metadata.getAttributeNames()) {
+			if (isAttributeSizeName(metadataAttributeName)) {
+				attributeNames.add(metadataAttributeName.substring(ATTRIBUTE_SIZE_SESSION_ATTRIBUTE_NAME_PREFIX.length()));
+			}
+		}
+
+		return attributeNames;
+	}
+
+	/**
+	 * Returns the total serialized size in bytes of the attributes of the Session with the given metadata entry.
+	 *
+	 * @param metadata Session metadata entry.
+	 * @return the total size of the Session's attributes in bytes.
+	 */
+	public static long attributesSize(ExpiringSession metadata) {
+		long attributesSize = 0L;
+
+		for (String metadataAttributeName : metadata.getAttributeNames()) {
+			if (isAttributeSizeName(metadataAttributeName)) {
+				attributesSize += NumberUtils.nullSafeIntValue(metadata.<Integer>getAttribute(metadataAttributeName));
+			}
+		}
+
+		return attributesSize;
+	}
+
+	public Region<SessionAttributeKey, Object> getSessionAttributesRegion() {
+		return sessionAttributesRegion;
+	}
+
+	@Override
+	public ExpiringSession createSession() {
+		return new SplitSession(super.createSession());
+	}
+
+	@Override
+	public ExpiringSession getSession(String sessionId) {
+		ExpiringSession metadata = super.getSession(sessionId);
+		return (metadata != null ? new SplitSession(metadata) : null);
+	}
+
+	@Override
+	public Map<String, ExpiringSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+		return super.findByIndexNameAndIndexValue(indexName, indexValue).entrySet().stream().collect(
+			Collectors.toMap(Map.Entry::getKey, entry -> new SplitSession(entry.getValue()),
+				(sessionOne, sessionTwo) -> sessionOne, LinkedHashMap::new));
+	}
+
+	@Override
+	public void save(ExpiringSession session) {
+		if (session instanceof SplitSession) {
+			SplitSession splitSession = (SplitSession) session;
+
+			synchronized (splitSession) {
+				splitSession.updateAttributeSizes();
+				super.save(splitSession.getMetadata());
+				splitSession.saveAttributes();
+			}
+		}
+		else {
+			super.save(session);
+		}
+	}
+
+	/**
+	 * The SplitSession class is an {@link ExpiringSession} assembled from the Session's metadata entry and,
+	 * lazily, the entries of the Session's attributes.
+	 */
+	protected class SplitSession implements ExpiringSession {
+
+		private final ExpiringSession metadata;
+
+		private final Map<String, Object> loadedAttributes = new HashMap<>();
+
+		private final Set<String> modifiedAttributeNames = new HashSet<>();
+		private final Set<String> removedAttributeNames = new HashSet<>();
+
+		protected SplitSession(ExpiringSession metadata) {
+			this.metadata = metadata;
+		}
+
+		ExpiringSession getMetadata() {
+			return metadata;
+		}
+
+		private boolean isMetadataAttribute(String attributeName) {
+			return METADATA_SESSION_ATTRIBUTE_NAMES.contains(attributeName);
+		}
+
+		private boolean isStoredAttribute(String attributeName) {
+			return (metadata.getAttribute(attributeSizeName(attributeName)) != null);
+		}
+
+		private SessionAttributeKey newSessionAttributeKey(String attributeName) {
+			return new SessionAttributeKey(getId(), attributeName);
+		}
+
+		@Override
+		public String getId() {
+			return metadata.getId();
+		}
+
+		@Override
+		public long getCreationTime() {
+			return metadata.getCreationTime();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return metadata.isExpired();
+		}
+
+		@Override
+		public void setLastAccessedTime(long lastAccessedTime) {
+			metadata.setLastAccessedTime(lastAccessedTime);
+		}
+
+		@Override
+		public long getLastAccessedTime() {
+			return metadata.getLastAccessedTime();
+		}
+
+		@Override
+		public void setMaxInactiveIntervalInSeconds(int interval) {
+			metadata.setMaxInactiveIntervalInSeconds(interval);
+		}
+
+		@Override
+		public int getMaxInactiveIntervalInSeconds() {
+			return metadata.getMaxInactiveIntervalInSeconds();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public synchronized <T> T getAttribute(String attributeName) {
+			if (isMetadataAttribute(attributeName)) {
+				return metadata.getAttribute(attributeName);
+			}
+
+			if (!loadedAttributes.containsKey(attributeName) && isStoredAttribute(attributeName)) {
+				loadedAttributes.put(attributeName,
+					getSessionAttributesRegion().get(newSessionAttributeKey(attributeName)));
+			}
+
+			return (T) loadedAttributes.get(attributeName);
+		}
+
+		@Override
+		public synchronized Set<String> getAttributeNames() {
+			Set<String> attributeNames = attributeNames(metadata);
+
+			for (String attributeName : metadata.getAttributeNames()) {
+				if (isMetadataAttribute(attributeName)) {
+					attributeNames.add(attributeName);
+				}
+			}
+
+			return attributeNames;
+		}
+
+		@Override
+		public synchronized void setAttribute(String attributeName, Object attributeValue) {
+			if (attributeValue == null) {
+				removeAttribute(attributeName);
+			}
+			else if (isMetadataAttribute(attributeName)) {
+				metadata.setAttribute(attributeName, attributeValue);
+			}
+			else {
+				loadedAttributes.put(attributeName, attributeValue);
+				modifiedAttributeNames.add(attributeName);
+				removedAttributeNames.remove(attributeName);
+
+				if (!isStoredAttribute(attributeName)) {
+					// the size is measured when the Session is saved
+					metadata.setAttribute(attributeSizeName(attributeName), 0);
+				}
+			}
+		}
+
+		@Override
+		public synchronized void removeAttribute(String attributeName) {
+			if (isMetadataAttribute(attributeName)) {
+				metadata.removeAttribute(attributeName);
+			}
+			else if (isStoredAttribute(attributeName)) {
+				loadedAttributes.remove(attributeName);
+				modifiedAttributeNames.remove(attributeName);
+				removedAttributeNames.add(attributeName);
+				metadata.removeAttribute(attributeSizeName(attributeName));
+			}
+		}
+
+		synchronized void updateAttributeSizes() {
+			for (String attributeName : modifiedAttributeNames) {
+				metadata.setAttribute(attributeSizeName(attributeName),
+					SerializationUtils.serializedSize(loadedAttributes.get(attributeName)));
+			}
+		}
+
+		synchronized void saveAttributes() {
+			if (!modifiedAttributeNames.isEmpty()) {
+				Map<SessionAttributeKey, Object> modifiedAttributes = new HashMap<>(modifiedAttributeNames.size());
+
+				for (String attributeName : modifiedAttributeNames) {
+					modifiedAttributes.put(newSessionAttributeKey(attributeName), loadedAttributes.get(attributeName));
+				}
+
+				getSessionAttributesRegion().putAll(modifiedAttributes);
+				modifiedAttributeNames.clear();
+			}
+
+			if (!removedAttributeNames.isEmpty()) {
+				getSessionAttributesRegion().removeAll(removedAttributeNames.stream()
+					.map(this::newSessionAttributeKey).collect(Collectors.toList()));
+
+				removedAttributeNames.clear();
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return (obj == this || (obj instanceof ExpiringSession
+				&& getId().equals(((ExpiringSession) obj).getId())));
+		}
+
+		@Override
+		public int hashCode() {
+			return getId().hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s { id = %2$s, attributeNames = %3$s }", getClass().getSimpleName(), getId(),
+				getAttributeNames());
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package example.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SmartApplicationListener;
+
+/**
+ * The StartupProfiler class times the phases of a Spring Boot application's startup and reports them
+ * once the application is ready to serve requests.
+ *
+ * The phases are the JVM and Spring Boot bootstrap (up to the creation of this bean), the initialization of
+ * each bean (which includes the creation of the GemFire cache, pools, locator and JMX manager and Regions by
+ * their {@link org.springframework.beans.factory.FactoryBean FactoryBeans}), the start of the lifecycle beans
+ * (e.g. the GemFire {@literal CacheServer}), the start of the embedded Web server, if any, and the time-to-ready
+ * measured from JVM start.  Optionally, the application exits once ready, which is used to generate class data sharing archives
+ * and to benchmark startup.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.boot.context.event.ApplicationReadyEvent
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class StartupProfiler implements BeanPostProcessor, SmartApplicationListener {
+
+	protected static final int DEFAULT_REPORTED_BEAN_COUNT = 10;
+
+	private final boolean exitAfterReady;
+	private final boolean report;
+
+	private final long jvmStartTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+	private final long profilerCreationTime = System.currentTimeMillis();
+
+	private volatile long contextRefreshedTime;
+	private volatile long lastBeanInitializedTime = profilerCreationTime;
+
+	private final Map<String, Long> beanInitializationStartTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> beanInitializationTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs an instance of the StartupProfiler.
+	 *
+	 * @param report boolean value indicating whether to print the startup report once the application is ready.
+	 * @param exitAfterReady boolean value indicating whether to exit the application once ready.
+	 */
+	public StartupProfiler(boolean report, boolean exitAfterReady) {
+		this.report = report;
+		this.exitAfterReady = exitAfterReady;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		beanInitializationStartTimes.put(beanName, System.nanoTime());
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		Long startTime = beanInitializationStartTimes.remove(beanName);
+
+		if (startTime != null) {
+			beanInitializationTimes.merge(beanName, System.nanoTime() - startTime, Long::sum);
+		}
+
+		lastBeanInitializedTime = System.currentTimeMillis();
+
+		return bean;
+	}
+
+	@Override
+	public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+		return (ContextRefreshedEvent.class.isAssignableFrom(eventType)
+			|| ApplicationReadyEvent.class.isAssignableFrom(eventType));
+	}
+
+	@Override
+	public boolean supportsSourceType(Class<?> sourceType) {
+		return true;
+	}
+
+	@Override
+	public int getOrder() {
+		return LOWEST_PRECEDENCE;
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (event instanceof ContextRefreshedEvent) {
+			contextRefreshedTime = System.currentTimeMillis();
+		}
+		else if (event instanceof ApplicationReadyEvent) {
+			long readyTime = System.currentTimeMillis();
+
+			if (report) {
+				System.err.print(report(readyTime));
+			}
+
+			if (exitAfterReady) {
+				System.exit(SpringApplication.exit(((ApplicationReadyEvent) event).getApplicationContext()));
+			}
+		}
+	}
+
+	String report(long readyTime) {
+		StringBuilder report = new StringBuilder(String.format("%nStartup profile%n"));
+
+		report.append(String.format("  %1$-48s %2$8d ms%n", "JVM and Spring Boot bootstrap",
+			profilerCreationTime - jvmStartTime));
+
+		report.append(String.format("  %1$-48s %2$8d ms%n", "Bean initialization",
+			lastBeanInitializedTime - profilerCreationTime));
+
+		beanInitializationTimes.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+			.limit(DEFAULT_REPORTED_BEAN_COUNT)
+			.forEach(entry -> report.append(String.format("    %1$-46s %2$8d ms%n", entry.getKey(),
+				TimeUnit.NANOSECONDS.toMillis(entry.getValue()))));
+
+		report.append(String.format("  %1$-48s %2$8d ms%n", "Lifecycle start (e.g. CacheServer)",
+			Math.max(contextRefreshedTime - lastBeanInitializedTime, 0L)));
+
+		report.append(String.format("  %1$-48s %2$8d ms%n", "Web server start and ready listeners",
+			Math.max(readyTime - contextRefreshedTime, 0L)));
+
+		report.append(String.format("  %1$-48s %2$8d ms%n", "Time-to-ready (from JVM start)",
+			readyTime - jvmStartTime));
+
+		return report.toString();
+	}
+}
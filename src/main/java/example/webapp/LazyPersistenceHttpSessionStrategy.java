@@ -0,0 +1,67 @@
+package example.webapp;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.session.Session;
+import org.springframework.session.web.http.CookieHttpSessionStrategy;
+import org.springframework.session.web.http.MultiHttpSessionStrategy;
+import org.springframework.util.Assert;
+
+/**
+ * The LazyPersistenceHttpSessionStrategy class is a Spring Session {@link MultiHttpSessionStrategy} decorator that
+ * does not send the ID of a new Session to the client (e.g. with a {@literal Set-Cookie} header) until
+ * the {@link LazyPersistenceSessionRepository} has persisted the Session.
+ *
+ * Otherwise, the client would present the ID of a Session that was never stored on its next request.  Until the
+ * Session is persisted, each request without a Session ID starts a new, local Session.
+ *
+ * @author John Blum
+ * @see example.webapp.LazyPersistenceSessionRepository
+ * @see org.springframework.session.web.http.CookieHttpSessionStrategy
+ * @since 1.0.0
+ */
+public class LazyPersistenceHttpSessionStrategy implements MultiHttpSessionStrategy {
+
+	private final MultiHttpSessionStrategy httpSessionStrategy;
+
+	public LazyPersistenceHttpSessionStrategy() {
+		this(new CookieHttpSessionStrategy());
+	}
+
+	public LazyPersistenceHttpSessionStrategy(MultiHttpSessionStrategy httpSessionStrategy) {
+		Assert.notNull(httpSessionStrategy, "HttpSessionStrategy must not be null");
+		this.httpSessionStrategy = httpSessionStrategy;
+	}
+
+	public MultiHttpSessionStrategy getHttpSessionStrategy() {
+		return httpSessionStrategy;
+	}
+
+	@Override
+	public String getRequestedSessionId(HttpServletRequest request) {
+		return getHttpSessionStrategy().getRequestedSessionId(request);
+	}
+
+	@Override
+	public void onNewSession(Session session, HttpServletRequest request, HttpServletResponse response) {
+		if (LazyPersistenceSessionRepository.isPersisted(session)) {
+			getHttpSessionStrategy().onNewSession(session, request, response);
+		}
+	}
+
+	@Override
+	public void onInvalidateSession(HttpServletRequest request, HttpServletResponse response) {
+		getHttpSessionStrategy().onInvalidateSession(request, response);
+	}
+
+	@Override
+	public HttpServletRequest wrapRequest(HttpServletRequest request, HttpServletResponse response) {
+		return getHttpSessionStrategy().wrapRequest(request, response);
+	}
+
+	@Override
+	public HttpServletResponse wrapResponse(HttpServletRequest request, HttpServletResponse response) {
+		return getHttpSessionStrategy().wrapResponse(request, response);
+	}
+}
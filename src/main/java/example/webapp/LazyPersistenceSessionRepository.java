@@ -0,0 +1,217 @@
+package example.webapp;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.util.Assert;
+
+/**
+ * The LazyPersistenceSessionRepository class is a Spring Session {@link SessionRepository} decorator that keeps
+ * a newly created Session local to the request until an attribute worth persisting is first written to the Session.
+ *
+ * Anonymous and read-only requests (e.g. from bots) thereby never create a Session in the cluster.  Attributes named
+ * as optional (e.g. request bookkeeping such as the {@literal requestCount}) do not cause a new Session to be
+ * persisted on their own.  Once a Session has been persisted, all subsequent changes are saved as usual.
+ *
+ * New Sessions are returned as a {@link LazySession} wrapping the Session created by the decorated repository, which
+ * records whether the Session has been persisted.  The state therefore belongs to the Session object itself and is
+ * collected along with it when the request completes.  Sessions read from the decorated repository have been
+ * persisted and are returned as is.
+ *
+ * The decorator is a {@link FindByIndexNameSessionRepository} when the decorated repository is one; however, it is no
+ * longer the decorated repository's class (e.g. {@literal GemFireOperationsSessionRepository}), which remains
+ * accessible with {@link #getSessionRepository()}.
+ *
+ * @author John Blum
+ * @see org.springframework.session.FindByIndexNameSessionRepository
+ * @see org.springframework.session.SessionRepository
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class LazyPersistenceSessionRepository implements FindByIndexNameSessionRepository<ExpiringSession> {
+
+	private final Set<String> optionalAttributeNames;
+
+	private final SessionRepository<ExpiringSession> sessionRepository;
+
+	/**
+	 * Constructs an instance of the LazyPersistenceSessionRepository.
+	 *
+	 * @param sessionRepository {@link SessionRepository} persisting the Sessions.
+	 * @param optionalAttributeNames names of the Session attributes that alone do not warrant persisting
+	 * a new Session.
+	 */
+	public LazyPersistenceSessionRepository(SessionRepository<ExpiringSession> sessionRepository,
+			Set<String> optionalAttributeNames) {
+
+		Assert.notNull(sessionRepository, "SessionRepository must not be null");
+
+		this.sessionRepository = sessionRepository;
+		this.optionalAttributeNames = new HashSet<>(optionalAttributeNames);
+	}
+
+	/**
+	 * Determines whether the given Session has been persisted; only a new Session created by
+	 * a LazyPersistenceSessionRepository may not have been.
+	 *
+	 * @param session {@link Session} to evaluate.
+	 * @return a boolean value indicating whether the Session has been persisted.
+	 */
+	public static boolean isPersisted(Session session) {
+		return (!(session instanceof LazySession) || ((LazySession) session).isPersisted());
+	}
+
+	public SessionRepository<ExpiringSession> getSessionRepository() {
+		return sessionRepository;
+	}
+
+	@Override
+	public ExpiringSession createSession() {
+		return new LazySession(getSessionRepository().createSession());
+	}
+
+	@Override
+	public ExpiringSession getSession(String sessionId) {
+		return getSessionRepository().getSession(sessionId);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, ExpiringSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+		Assert.state(getSessionRepository() instanceof FindByIndexNameSessionRepository, String.format(
+			"SessionRepository [%s] does not support finding Sessions by index",
+				getSessionRepository().getClass().getName()));
+
+		return ((FindByIndexNameSessionRepository<ExpiringSession>) getSessionRepository())
+			.findByIndexNameAndIndexValue(indexName, indexValue);
+	}
+
+	@Override
+	public void save(ExpiringSession session) {
+		if (session instanceof LazySession) {
+			LazySession lazySession = (LazySession) session;
+
+			if (lazySession.isPersisted() || hasPersistentAttributes(lazySession)) {
+				getSessionRepository().save(lazySession.getSession());
+				lazySession.persisted = true;
+			}
+		}
+		else {
+			getSessionRepository().save(session);
+		}
+	}
+
+	@Override
+	public void delete(String sessionId) {
+		getSessionRepository().delete(sessionId);
+	}
+
+	boolean hasPersistentAttributes(ExpiringSession session) {
+		for (String attributeName : session.getAttributeNames()) {
+			if (!optionalAttributeNames.contains(attributeName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * The LazySession class is an {@link ExpiringSession} wrapping a new Session created by the decorated
+	 * {@link SessionRepository} that records whether the Session has been persisted.
+	 */
+	protected static class LazySession implements ExpiringSession {
+
+		private final ExpiringSession session;
+
+		private volatile boolean persisted;
+
+		protected LazySession(ExpiringSession session) {
+			Assert.notNull(session, "Session must not be null");
+			this.session = session;
+		}
+
+		ExpiringSession getSession() {
+			return session;
+		}
+
+		boolean isPersisted() {
+			return persisted;
+		}
+
+		@Override
+		public String getId() {
+			return session.getId();
+		}
+
+		@Override
+		public long getCreationTime() {
+			return session.getCreationTime();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return session.isExpired();
+		}
+
+		@Override
+		public void setLastAccessedTime(long lastAccessedTime) {
+			session.setLastAccessedTime(lastAccessedTime);
+		}
+
+		@Override
+		public long getLastAccessedTime() {
+			return session.getLastAccessedTime();
+		}
+
+		@Override
+		public void setMaxInactiveIntervalInSeconds(int interval) {
+			session.setMaxInactiveIntervalInSeconds(interval);
+		}
+
+		@Override
+		public int getMaxInactiveIntervalInSeconds() {
+			return session.getMaxInactiveIntervalInSeconds();
+		}
+
+		@Override
+		public <T> T getAttribute(String attributeName) {
+			return session.getAttribute(attributeName);
+		}
+
+		@Override
+		public Set<String> getAttributeNames() {
+			return session.getAttributeNames();
+		}
+
+		@Override
+		public void setAttribute(String attributeName, Object attributeValue) {
+			session.setAttribute(attributeName, attributeValue);
+		}
+
+		@Override
+		public void removeAttribute(String attributeName) {
+			session.removeAttribute(attributeName);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return (obj == this || session.equals(obj instanceof LazySession ? ((LazySession) obj).getSession() : obj));
+		}
+
+		@Override
+		public int hashCode() {
+			return session.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return session.toString();
+		}
+	}
+}
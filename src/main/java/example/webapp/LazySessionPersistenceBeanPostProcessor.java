@@ -0,0 +1,49 @@
+package example.webapp;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.SessionRepository;
+
+/**
+ * The LazySessionPersistenceBeanPostProcessor class is a Spring {@link BeanPostProcessor} that decorates
+ * the {@literal sessionRepository} bean, whether declared by Spring Session Data GemFire or by the application,
+ * with the {@link LazyPersistenceSessionRepository}.
+ *
+ * The decorated {@literal sessionRepository} bean can still be injected as a {@link SessionRepository} or
+ * a {@link org.springframework.session.FindByIndexNameSessionRepository}, but no longer as its own class
+ * (e.g. {@literal GemFireOperationsSessionRepository}); use
+ * {@link LazyPersistenceSessionRepository#getSessionRepository()} to access the decorated repository.
+ *
+ * @author John Blum
+ * @see example.webapp.LazyPersistenceSessionRepository
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @since 1.0.0
+ */
+public class LazySessionPersistenceBeanPostProcessor implements BeanPostProcessor {
+
+	public static final String SESSION_REPOSITORY_BEAN_NAME = "sessionRepository";
+
+	private final Set<String> optionalAttributeNames;
+
+	public LazySessionPersistenceBeanPostProcessor(String... optionalAttributeNames) {
+		this.optionalAttributeNames = new HashSet<>(Arrays.asList(optionalAttributeNames));
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		return (bean instanceof SessionRepository && SESSION_REPOSITORY_BEAN_NAME.equals(beanName)
+			? new LazyPersistenceSessionRepository((SessionRepository<ExpiringSession>) bean, optionalAttributeNames)
+			: bean);
+	}
+}
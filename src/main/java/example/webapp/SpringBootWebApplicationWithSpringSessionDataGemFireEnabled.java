@@ -9,15 +9,27 @@ import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpSession;
 
+import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.client.ClientRegionShortcut;
+import com.gemstone.gemfire.cache.client.Pool;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.client.PoolFactoryBean;
 import org.springframework.data.gemfire.support.ConnectionEndpoint;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
 import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -27,6 +39,9 @@ import org.springframework.web.bind.annotation.ResponseBody;
 
 import example.server.SpringBootGemFireServer;
 import example.support.NumberUtils;
+import example.support.SessionAttributeKey;
+import example.support.SplitGemFireOperationsSessionRepository;
+import example.support.StartupProfiler;
 
 /**
  * The SpringBootWebApplicationWithSpringSessionDataGemFireEnabled class...
@@ -56,6 +71,38 @@ public class SpringBootWebApplicationWithSpringSessionDataGemFireEnabled {
 		return new PropertySourcesPlaceholderConfigurer();
 	}
 
+	/**
+	 * Keeps new Sessions local to the request until an attribute other than the optional attributes (by default,
+	 * the {@literal requestCount}) is first written when {@literal session.lazy-persistence.enabled}
+	 * is {@literal true}.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "session.lazy-persistence.enabled", havingValue = "true")
+	static LazySessionPersistenceBeanPostProcessor lazySessionPersistenceBeanPostProcessor(
+		@Value("${session.lazy-persistence.optional-attributes:" + REQUEST_COUNT_SESSION_ATTRIBUTE_NAME + "}")
+			String[] optionalAttributeNames)
+	{
+		return new LazySessionPersistenceBeanPostProcessor(optionalAttributeNames);
+	}
+
+	/**
+	 * Withholds the Session cookie of new Sessions until the Sessions are persisted when
+	 * {@literal session.lazy-persistence.enabled} is {@literal true}.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "session.lazy-persistence.enabled", havingValue = "true")
+	LazyPersistenceHttpSessionStrategy httpSessionStrategy() {
+		return new LazyPersistenceHttpSessionStrategy();
+	}
+
+	@Bean
+	static StartupProfiler startupProfiler(
+		@Value("${startup.profile.enabled:false}") boolean report,
+		@Value("${startup.exit-after-ready:false}") boolean exitAfterReady)
+	{
+		return new StartupProfiler(report, exitAfterReady);
+	}
+
 	Properties gemfireProperties() {
 		Properties gemfireProperties = new Properties();
 		gemfireProperties.setProperty("name", applicationName());
@@ -99,6 +146,42 @@ public class SpringBootWebApplicationWithSpringSessionDataGemFireEnabled {
 		return gemfirePool;
 	}
 
+	@Bean(name = SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME)
+	@ConditionalOnProperty(name = "gemfire.session.storage-layout", havingValue = "split")
+	ClientRegionFactoryBean<SessionAttributeKey, Object> sessionAttributesRegion(GemFireCache gemfireCache,
+		@Qualifier("gemfirePool") Pool gemfirePool)
+	{
+		ClientRegionFactoryBean<SessionAttributeKey, Object> sessionAttributesRegion = new ClientRegionFactoryBean<>();
+
+		sessionAttributesRegion.setCache(gemfireCache);
+		sessionAttributesRegion.setClose(false);
+		sessionAttributesRegion.setPoolName(gemfirePool.getName());
+		sessionAttributesRegion.setShortcut(ClientRegionShortcut.PROXY);
+
+		return sessionAttributesRegion;
+	}
+
+	/**
+	 * Overrides Spring Session Data GemFire's {@literal sessionRepository} to store each Session as a metadata entry
+	 * plus one entry per attribute when {@literal gemfire.session.storage-layout} is {@literal split}.
+	 */
+	@Bean(name = "sessionRepository")
+	@ConditionalOnProperty(name = "gemfire.session.storage-layout", havingValue = "split")
+	GemFireOperationsSessionRepository sessionRepository(
+		@Qualifier(GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME)
+			Region<Object, ExpiringSession> sessionRegion,
+		@Qualifier(SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME)
+			Region<SessionAttributeKey, Object> sessionAttributesRegion)
+	{
+		SplitGemFireOperationsSessionRepository sessionRepository =
+			new SplitGemFireOperationsSessionRepository(new GemfireTemplate(sessionRegion), sessionAttributesRegion);
+
+		sessionRepository.setMaxInactiveIntervalInSeconds(
+			GemFireHttpSessionConfiguration.DEFAULT_MAX_INACTIVE_INTERVAL_IN_SECONDS);
+
+		return sessionRepository;
+	}
+
 	@RequestMapping(method = RequestMethod.GET, value="/")
 	@ResponseBody
 	public String hello() {
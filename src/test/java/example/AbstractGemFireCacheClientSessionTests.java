@@ -2,10 +2,21 @@ package example;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import com.gemstone.gemfire.cache.EntryEvent;
+import com.gemstone.gemfire.cache.InterestResultPolicy;
 import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.util.CacheListenerAdapter;
 
+import org.junit.ClassRule;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.session.ExpiringSession;
 import org.springframework.session.SessionRepository;
@@ -14,7 +25,10 @@ import org.springframework.session.SessionRepository;
  * The AbstractGemFireCacheClientSessionTests class is an abstract base class encapsulating core functionality
  * for writing integration tests using GemFire as the HttpSession implementation provider for Spring Session.
  *
+ * The tests run against the {@link GemFireServerFixture#shared() shared} GemFire Server.
+ *
  * @author John Blum
+ * @see example.GemFireServerFixture
  * @see org.springframework.session.ExpiringSession
  * @see org.springframework.session.SessionRepository
  * @see com.gemstone.gemfire.cache.Region
@@ -22,7 +36,8 @@ import org.springframework.session.SessionRepository;
  */
 public abstract class AbstractGemFireCacheClientSessionTests {
 
-	private final Object LOCK = new Object();
+	@ClassRule
+	public static final GemFireServerFixture gemfireServer = GemFireServerFixture.shared();
 
 	@Autowired
 	private SessionRepository<ExpiringSession> sessionRepository;
@@ -56,33 +71,73 @@ public abstract class AbstractGemFireCacheClientSessionTests {
 		return session;
 	}
 
-	protected void waitOnConditionForDuration(Condition condition, long duration) {
-		final long timeout = (System.currentTimeMillis() + duration);
-
-		boolean interrupted = false;
-
-		try {
-			// wait uninterrupted...
-			while (!condition.evaluate() && System.currentTimeMillis() < timeout) {
-				synchronized (LOCK) {
-					try {
-						TimeUnit.MILLISECONDS.timedWait(LOCK, 500);
-					}
-					catch (InterruptedException ignore) {
-						interrupted = true;
-					}
-				}
-			}
+	/**
+	 * Registers interest in and listens for the invalidation or destruction of the Sessions with the given IDs,
+	 * which occurs when the server expires the Sessions.  Call before the Sessions are saved.
+	 *
+	 * @param sessionIds IDs of the Sessions to watch.
+	 * @return the {@link ExpirationWatch} used to wait on the Sessions to expire.
+	 */
+	protected ExpirationWatch watchForExpiration(Object... sessionIds) {
+		return watchForExpiration(Arrays.asList(sessionIds));
+	}
+
+	protected ExpirationWatch watchForExpiration(Collection<?> sessionIds) {
+		return new ExpirationWatch(getSessionRegion(), sessionIds);
+	}
+
+	protected static class ExpirationWatch extends CacheListenerAdapter<Object, ExpiringSession>
+			implements AutoCloseable {
+
+		private final CountDownLatch latch;
+
+		private final List<Object> sessionIds;
+
+		private final Region<Object, ExpiringSession> sessionRegion;
+
+		private final Set<Object> unexpiredSessionIds = ConcurrentHashMap.newKeySet();
+
+		ExpirationWatch(Region<Object, ExpiringSession> sessionRegion, Collection<?> sessionIds) {
+			this.sessionRegion = sessionRegion;
+			this.sessionIds = new ArrayList<>(sessionIds);
+			this.unexpiredSessionIds.addAll(sessionIds);
+			this.latch = new CountDownLatch(this.unexpiredSessionIds.size());
+
+			sessionRegion.getAttributesMutator().addCacheListener(this);
+			sessionRegion.registerInterest(this.sessionIds, InterestResultPolicy.NONE);
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, ExpiringSession> event) {
+			expired(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, ExpiringSession> event) {
+			expired(event.getKey());
 		}
-		finally {
-			// but, if we were interrupted, reset the interrupt!
-			if (interrupted) {
-				Thread.currentThread().interrupt();
+
+		private void expired(Object sessionId) {
+			if (unexpiredSessionIds.remove(sessionId)) {
+				latch.countDown();
 			}
 		}
-	}
 
-	protected interface Condition {
-		boolean evaluate();
+		/**
+		 * Waits until all watched Sessions have expired or the timeout elapses.
+		 *
+		 * @param timeout maximum time to wait in milliseconds.
+		 * @return a boolean value indicating whether all watched Sessions expired.
+		 * @throws InterruptedException if the current Thread is interrupted while waiting.
+		 */
+		public boolean await(long timeout) throws InterruptedException {
+			return latch.await(timeout, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void close() {
+			sessionRegion.getAttributesMutator().removeCacheListener(this);
+			sessionRegion.unregisterInterest(sessionIds);
+		}
 	}
 }
@@ -0,0 +1,186 @@
+package example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.client.ClientCache;
+import com.gemstone.gemfire.cache.client.Pool;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+
+/**
+ * Benchmark measuring session throughput and latency against
+ * the GemFire {@link com.gemstone.gemfire.cache.server.CacheServer} as the number of concurrent client connections
+ * grows.
+ *
+ * The benchmark only runs when the {@literal benchmark} System property is set to {@literal true}.  For each mode,
+ * thread-per-connection (the default, {@literal gemfire.cache.server.max-threads=0}) and selector mode
+ * ({@literal gemfire.cache.server.max-threads} set to {@literal benchmark.max-threads}), the benchmark launches
+ * a {@link example.server.SpringBootGemFireServer} with the {@link GemFireServerFixture} and reports the results
+ * for each number of client connections.
+ *
+ * By default, the benchmark grows to 5120 client connections, the scale at which thread-per-connection is expected
+ * to break down, and can be changed with {@literal benchmark.connections} (e.g. {@literal 64,512,2048,5120}).
+ * Both the server and the benchmark's JVM need an open file limit ({@literal ulimit -n}) above twice the largest
+ * number of connections.  Note that the client drives each connection from its own thread in the benchmark's JVM,
+ * so at thousands of connections the results also include client-side scheduling and contention, which affects
+ * both modes alike but narrows the measured difference between them.
+ *
+ * @author John Blum
+ * @see com.gemstone.gemfire.cache.client.Pool
+ * @see com.gemstone.gemfire.cache.server.CacheServer
+ * @see example.GemFireServerFixture
+ * @since 1.0.0
+ */
+public class CacheServerConnectionBenchmark {
+
+	protected static final int DEFAULT_SELECTOR_MAX_THREADS = 16;
+
+	protected static final long DURATION_PER_ROUND = TimeUnit.SECONDS.toMillis(10);
+
+	protected static final String DEFAULT_CONNECTION_COUNTS = "64,512,2048,5120";
+	protected static final String GEMFIRE_REGION_NAME =
+		GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME;
+
+	private static ClientCache gemfireCache;
+
+	@BeforeClass
+	public static void setupGemFireCacheClient() {
+		Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+		gemfireCache = GemFireServerFixture.newClientCache(CacheServerConnectionBenchmark.class);
+	}
+
+	@AfterClass
+	public static void shutdownGemFireCacheClient() {
+		if (gemfireCache != null) {
+			gemfireCache.close();
+		}
+	}
+
+	static int[] connectionCounts() {
+		String[] values = System.getProperty("benchmark.connections", DEFAULT_CONNECTION_COUNTS).split(",");
+		int[] connectionCounts = new int[values.length];
+
+		for (int index = 0; index < values.length; index++) {
+			connectionCounts[index] = Integer.parseInt(values[index].trim());
+		}
+
+		return connectionCounts;
+	}
+
+	static Pool gemfirePool(String poolName, GemFireServerFixture gemfireServer, int connections) {
+		return gemfireServer.newPoolFactory()
+			.setMaxConnections(connections)
+			.setMinConnections(connections)
+			.setThreadLocalConnections(true)
+			.create(poolName);
+	}
+
+	@Test
+	public void sessionThroughputAsConnectionsGrow() throws Exception {
+		int selectorMaxThreads = Integer.getInteger("benchmark.max-threads", DEFAULT_SELECTOR_MAX_THREADS);
+
+		runMode("thread-per-connection", 0);
+		runMode(String.format("selector (%d threads)", selectorMaxThreads), selectorMaxThreads);
+	}
+
+	private void runMode(String mode, int maxThreads) throws Exception {
+		int[] connectionCounts = connectionCounts();
+
+		GemFireServerFixture gemfireServer = new GemFireServerFixture(
+			String.format("--gemfire.cache.server.max-connections=%d", connectionCounts[connectionCounts.length - 1] * 2),
+			String.format("--gemfire.cache.server.max-threads=%d", maxThreads));
+
+		try {
+			gemfireServer.start();
+
+			System.err.printf("%n%1$s%n%2$12s %3$16s %4$16s%n", mode,
+				"connections", "operations/sec", "avg latency (us)");
+
+			for (int connections : connectionCounts) {
+				Pool gemfirePool = gemfirePool("BenchmarkPool" + connections, gemfireServer, connections);
+				Region<Object, ExpiringSession> sessionRegion =
+					GemFireServerFixture.newClientProxyRegion(gemfirePool, GEMFIRE_REGION_NAME);
+
+				try {
+					runRound(GemFireServerFixture.newSessionRepository(sessionRegion), connections);
+				}
+				finally {
+					sessionRegion.localDestroyRegion();
+					gemfirePool.destroy();
+				}
+			}
+		}
+		finally {
+			gemfireServer.stop();
+		}
+	}
+
+	private void runRound(GemFireOperationsSessionRepository sessionRepository, int connections)
+			throws InterruptedException {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(connections);
+
+		AtomicLong operations = new AtomicLong(0L);
+		AtomicLong totalLatency = new AtomicLong(0L);
+
+		CountDownLatch done = new CountDownLatch(connections);
+
+		long timeout = (System.currentTimeMillis() + DURATION_PER_ROUND);
+
+		List<Throwable> failures = new ArrayList<>();
+
+		for (int count = 0; count < connections; count++) {
+			executorService.execute(() -> {
+				try {
+					ExpiringSession session = sessionRepository.createSession();
+
+					while (System.currentTimeMillis() < timeout) {
+						long t0 = System.nanoTime();
+
+						session.setLastAccessedTime(System.currentTimeMillis());
+						sessionRepository.save(session);
+						sessionRepository.getSession(session.getId());
+
+						totalLatency.addAndGet(System.nanoTime() - t0);
+						operations.incrementAndGet();
+					}
+				}
+				catch (Throwable cause) {
+					synchronized (failures) {
+						failures.add(cause);
+					}
+				}
+				finally {
+					done.countDown();
+				}
+			});
+		}
+
+		done.await();
+		executorService.shutdownNow();
+
+		assertThat(failures).isEmpty();
+
+		long operationCount = operations.get();
+
+		System.err.printf("%1$12d %2$16d %3$16d%n", connections,
+			(operationCount * 1000L / DURATION_PER_ROUND),
+			(operationCount > 0 ? TimeUnit.NANOSECONDS.toMicros(totalLatency.get() / operationCount) : 0L));
+	}
+}
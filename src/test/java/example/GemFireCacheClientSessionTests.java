@@ -2,6 +2,12 @@ package example;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import com.gemstone.gemfire.cache.Region;
@@ -12,7 +18,6 @@ import com.gemstone.gemfire.cache.client.ClientRegionShortcut;
 import com.gemstone.gemfire.cache.client.Pool;
 import com.gemstone.gemfire.cache.client.PoolFactory;
 import com.gemstone.gemfire.cache.client.PoolManager;
-import com.gemstone.gemfire.cache.server.CacheServer;
 
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -40,10 +45,7 @@ import example.support.NumberUtils;
  */
 public class GemFireCacheClientSessionTests extends AbstractGemFireCacheClientSessionTests {
 
-	protected static final int GEMFIRE_CACHE_SERVER_PORT = CacheServer.DEFAULT_PORT;
-
 	protected static final String DEFAULT_GEMFIRE_LOG_LEVEL = "error";
-	protected static final String GEMFIRE_CACHE_SERVER_HOST = "localhost";
 	protected static final String GEMFIRE_POOL_NAME = GemfireConstants.DEFAULT_GEMFIRE_POOL_NAME;
 	protected static final String GEMFIRE_REGION_NAME =
 		GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME;
@@ -90,7 +92,7 @@ public class GemFireCacheClientSessionTests extends AbstractGemFireCacheClientSe
 		poolFactory.setRetryAttempts(1);
 		poolFactory.setSubscriptionEnabled(true);
 		poolFactory.setThreadLocalConnections(false);
-		poolFactory.addServer(GEMFIRE_CACHE_SERVER_HOST, GEMFIRE_CACHE_SERVER_PORT);
+		poolFactory.addServer(gemfireServer.getHost(), gemfireServer.getPort());
 
 		return poolFactory.create(poolName);
 	}
@@ -135,28 +137,81 @@ public class GemFireCacheClientSessionTests extends AbstractGemFireCacheClientSe
 	}
 
 	@Test
-	public void sessionCreationAccessAndExpirationIsSuccessful() {
-		ExpiringSession expected = save(touch(newSession()));
+	public void sessionCreationAccessAndExpirationIsSuccessful() throws Exception {
+		ExpiringSession session = touch(newSession());
+
+		try (ExpirationWatch expirationWatch = watchForExpiration(session.getId())) {
+			ExpiringSession expected = save(session);
+
+			assertThat(expected).isNotNull();
+			assertThat(expected.isExpired()).isFalse();
 
-		assertThat(expected).isNotNull();
-		assertThat(expected.isExpired()).isFalse();
+			ExpiringSession actual = loadFromRegion(expected.getId());
 
-		ExpiringSession actual = loadFromRegion(expected.getId());
+			assertThat(actual).isNotNull();
+			assertThat(actual.isExpired()).isFalse();
+			assertThat(actual).isEqualTo(expected);
 
-		assertThat(actual).isNotNull();
-		assertThat(actual.isExpired()).isFalse();
-		assertThat(actual).isEqualTo(expected);
+			// Session timeout (i.e. GemFire's "ClusteredSpringSessions" Region expiration idle-timeout)
+			// is set to 1 second
+			assertThat(expirationWatch.await(TimeUnit.SECONDS.toMillis(10))).isTrue();
 
-		// Session timeout (i.e. GemFire's "ClusteredSpringSessions" Region expiration idle-timeout)
-		// is set to 1 second
-		waitOnConditionForDuration(() -> false, TimeUnit.SECONDS.toMillis(2));
+			actual = load(actual.getId());
 
-		actual = load(actual.getId());
+			assertThat(actual).isNull();
 
-		assertThat(actual).isNull();
+			actual = loadFromRegion(expected.getId());
+
+			assertThat(actual).isNull();
+		}
+	}
+
+	@Test
+	public void concurrentSessionCreationAccessAndExpirationIsSuccessful() throws Exception {
+		int threadCount = 8;
+		int sessionsPerThread = 50;
+
+		List<ExpiringSession> sessions = new ArrayList<>(threadCount * sessionsPerThread);
+
+		for (int count = 0; count < threadCount * sessionsPerThread; count++) {
+			sessions.add(touch(newSession()));
+		}
 
-		actual = loadFromRegion(expected.getId());
+		List<Object> sessionIds = new ArrayList<>(sessions.size());
 
-		assertThat(actual).isNull();
+		sessions.forEach(session -> sessionIds.add(session.getId()));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		try (ExpirationWatch expirationWatch = watchForExpiration(sessionIds)) {
+			List<Callable<Void>> tasks = new ArrayList<>(threadCount);
+
+			for (int thread = 0; thread < threadCount; thread++) {
+				List<ExpiringSession> threadSessions =
+					sessions.subList(thread * sessionsPerThread, (thread + 1) * sessionsPerThread);
+
+				tasks.add(() -> {
+					for (ExpiringSession expected : threadSessions) {
+						save(expected);
+						assertThat(loadFromRegion(expected.getId())).isEqualTo(expected);
+					}
+
+					return null;
+				});
+			}
+
+			for (Future<Void> future : executorService.invokeAll(tasks)) {
+				future.get();
+			}
+
+			assertThat(expirationWatch.await(TimeUnit.SECONDS.toMillis(30))).isTrue();
+
+			for (Object sessionId : sessionIds) {
+				assertThat(load(sessionId)).isNull();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
 	}
 }
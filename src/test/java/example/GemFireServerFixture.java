@@ -0,0 +1,344 @@
+package example;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.client.ClientCache;
+import com.gemstone.gemfire.cache.client.ClientCacheFactory;
+import com.gemstone.gemfire.cache.client.ClientRegionShortcut;
+import com.gemstone.gemfire.cache.client.Pool;
+import com.gemstone.gemfire.cache.client.PoolFactory;
+import com.gemstone.gemfire.cache.client.PoolManager;
+
+import org.junit.rules.ExternalResource;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+
+import example.server.SpringBootGemFireServer;
+import example.support.NumberUtils;
+
+/**
+ * The GemFireServerFixture class is a JUnit {@link org.junit.rules.TestRule} that launches
+ * the {@link SpringBootGemFireServer} on ephemeral ports for the duration of the tests.
+ *
+ * GemFire allows only one cache per JVM and the tests are GemFire cache clients, so the server is launched in
+ * a forked JVM using the test's classpath rather than in the test JVM itself.  The {@link #shared()} fixture is
+ * started once and shared by all test classes running in the same JVM; it is stopped when the JVM exits.
+ * The shared cache server's port is published to Spring configuration as
+ * the {@literal gemfire.client.server.port} System property.
+ *
+ * Tests that are not configured with Spring use the fixture to create their cache client, a {@link Pool} connected
+ * to the server and {@literal PROXY} Regions on the {@link Pool}.
+ *
+ * @author John Blum
+ * @see org.junit.rules.ExternalResource
+ * @see example.server.SpringBootGemFireServer
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class GemFireServerFixture extends ExternalResource {
+
+	protected static final long DEFAULT_STARTUP_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+	protected static final String DEFAULT_GEMFIRE_LOG_LEVEL = "error";
+	protected static final String GEMFIRE_CACHE_SERVER_HOST = "localhost";
+	protected static final String GEMFIRE_CLIENT_SERVER_PORT_PROPERTY = "gemfire.client.server.port";
+
+	private static GemFireServerFixture sharedFixture;
+
+	private final boolean shared;
+
+	private int port;
+
+	private long startupTime;
+
+	private final List<String> arguments = new ArrayList<>();
+	private final List<String> jvmArguments = new ArrayList<>();
+
+	private Process process;
+
+	private String classpath = System.getProperty("java.class.path");
+	private String javaHome = System.getProperty("java.home");
+
+	/**
+	 * Returns the {@link GemFireServerFixture} shared by all test classes in this JVM.
+	 *
+	 * @return the shared {@link GemFireServerFixture}.
+	 */
+	public static synchronized GemFireServerFixture shared() {
+		if (sharedFixture == null) {
+			sharedFixture = new GemFireServerFixture(true);
+			Runtime.getRuntime().addShutdownHook(new Thread(sharedFixture::stop, "GemFireServerFixtureShutdown"));
+		}
+
+		return sharedFixture;
+	}
+
+	/**
+	 * Constructs an unshared {@link GemFireServerFixture} that is stopped after the test class (or test) completes.
+	 *
+	 * @param arguments Spring Boot application arguments passed to the {@link SpringBootGemFireServer}
+	 * (e.g. {@literal --gemfire.session.max-size=1024}).
+	 */
+	public GemFireServerFixture(String... arguments) {
+		this(false);
+		this.arguments.addAll(Arrays.asList(arguments));
+	}
+
+	private GemFireServerFixture(boolean shared) {
+		this.shared = shared;
+	}
+
+	/**
+	 * Creates the GemFire cache client of the given test class; close it after the test class completes.
+	 *
+	 * @param testClass test class using the cache client.
+	 * @return the {@link ClientCache}.
+	 */
+	public static ClientCache newClientCache(Class<?> testClass) {
+		return new ClientCacheFactory()
+			.set("name", testClass.getSimpleName())
+			.set("log-level", System.getProperty("gemfire.log.level", DEFAULT_GEMFIRE_LOG_LEVEL))
+			.create();
+	}
+
+	/**
+	 * Creates a {@literal PROXY} Region with the given name on the given {@link Pool} in the cache client.
+	 *
+	 * @param pool {@link Pool} connected to a server.
+	 * @param regionName name of the Region on the server.
+	 * @return the client {@link Region}.
+	 */
+	public static <K, V> Region<K, V> newClientProxyRegion(Pool pool, String regionName) {
+		return ClientCacheFactory.getAnyInstance().<K, V>createClientRegionFactory(ClientRegionShortcut.PROXY)
+			.setPoolName(pool.getName())
+			.create(regionName);
+	}
+
+	public static GemFireOperationsSessionRepository newSessionRepository(Region<Object, ExpiringSession> sessionRegion)
+			throws Exception {
+
+		GemFireOperationsSessionRepository sessionRepository =
+			new GemFireOperationsSessionRepository(new GemfireTemplate(sessionRegion));
+
+		sessionRepository.afterPropertiesSet();
+
+		return sessionRepository;
+	}
+
+	/**
+	 * Returns the messages of the given {@link Throwable} and its causes, one per line, since the server's
+	 * exceptions reach the cache client as causes of the client's exception.
+	 *
+	 * @param cause {@link Throwable} to evaluate.
+	 * @return the messages of the exception chain.
+	 */
+	public static String messages(Throwable cause) {
+		StringBuilder messages = new StringBuilder();
+
+		for (Throwable throwable = cause; throwable != null; throwable = throwable.getCause()) {
+			messages.append(throwable.getMessage()).append(System.lineSeparator());
+		}
+
+		return messages.toString();
+	}
+
+	static int availablePort() throws IOException {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			return serverSocket.getLocalPort();
+		}
+	}
+
+	/**
+	 * Launches the server with the given classpath rather than the test's classpath (e.g. the classpath
+	 * a class data sharing archive was created with).
+	 *
+	 * @param classpath classpath of the server's JVM.
+	 * @return this {@link GemFireServerFixture}.
+	 */
+	public GemFireServerFixture withClasspath(String classpath) {
+		this.classpath = classpath;
+		return this;
+	}
+
+	/**
+	 * Launches the server with the {@literal java} executable of the given Java home rather than the test's JVM.
+	 *
+	 * @param javaHome Java home (JDK or JRE) directory of the server's JVM.
+	 * @return this {@link GemFireServerFixture}.
+	 */
+	public GemFireServerFixture withJavaHome(String javaHome) {
+		this.javaHome = javaHome;
+		return this;
+	}
+
+	public GemFireServerFixture withJvmArguments(String... jvmArguments) {
+		this.jvmArguments.addAll(Arrays.asList(jvmArguments));
+		return this;
+	}
+
+	/**
+	 * Returns a {@link PoolFactory} connecting to this server, which can be further configured before the
+	 * {@link Pool} is created.
+	 *
+	 * @return a {@link PoolFactory} connecting to this server.
+	 */
+	public PoolFactory newPoolFactory() {
+		return PoolManager.createFactory()
+			.setReadTimeout(NumberUtils.intValue(TimeUnit.SECONDS.toMillis(20)))
+			.setRetryAttempts(1)
+			.addServer(getHost(), getPort());
+	}
+
+	public Pool newPool(String poolName) {
+		return newPoolFactory().create(poolName);
+	}
+
+	/**
+	 * Creates a {@literal PROXY} {@literal ClusteredSpringSessions} Region on a new {@link Pool} with the given name
+	 * connected to this server.
+	 *
+	 * @param poolName name of the {@link Pool}.
+	 * @return the client {@literal ClusteredSpringSessions} {@link Region}.
+	 */
+	public Region<Object, ExpiringSession> newClientSessionRegion(String poolName) {
+		return newClientProxyRegion(newPool(poolName),
+			GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME);
+	}
+
+	public String getHost() {
+		return GEMFIRE_CACHE_SERVER_HOST;
+	}
+
+	public synchronized int getPort() {
+		return port;
+	}
+
+	/**
+	 * Returns the time in milliseconds it took the server to start and begin accepting client connections.
+	 *
+	 * @return the server's startup time in milliseconds.
+	 */
+	public synchronized long getStartupTime() {
+		return startupTime;
+	}
+
+	public synchronized boolean isRunning() {
+		return (process != null && process.isAlive());
+	}
+
+	@Override
+	protected void before() throws Throwable {
+		start();
+	}
+
+	@Override
+	protected void after() {
+		if (!shared) {
+			stop();
+		}
+	}
+
+	public synchronized GemFireServerFixture start() throws IOException, InterruptedException {
+		if (process == null) {
+			port = availablePort();
+
+			File workingDirectory = new File(String.format("build/gemfire-server-%d", port));
+
+			workingDirectory.mkdirs();
+
+			long t0 = System.currentTimeMillis();
+
+			process = new ProcessBuilder(command(port, availablePort(), availablePort()))
+				.directory(workingDirectory)
+				.redirectErrorStream(true)
+				.redirectOutput(new File(workingDirectory, "server.out"))
+				.start();
+
+			waitForServer(DEFAULT_STARTUP_TIMEOUT);
+
+			startupTime = (System.currentTimeMillis() - t0);
+
+			if (shared) {
+				System.setProperty(GEMFIRE_CLIENT_SERVER_PORT_PROPERTY, String.valueOf(port));
+			}
+		}
+
+		return this;
+	}
+
+	List<String> command(int port, int locatorPort, int managerPort) {
+		List<String> command = new ArrayList<>();
+
+		command.add(new File(new File(javaHome, "bin"), "java").getAbsolutePath());
+		command.add("-server");
+		command.add("-cp");
+		command.add(classpath);
+		command.add(String.format("-Dgemfire.log-level=%s",
+			System.getProperty("gemfire.log.level", DEFAULT_GEMFIRE_LOG_LEVEL)));
+		command.addAll(jvmArguments);
+		command.add(SpringBootGemFireServer.class.getName());
+		command.add(String.format("--gemfire.cache.server.port=%d", port));
+		command.add(String.format("--gemfire.locator.host-port=localhost[%d]", locatorPort));
+		command.add(String.format("--gemfire.manager.port=%d", managerPort));
+		command.addAll(arguments);
+
+		return Collections.unmodifiableList(command);
+	}
+
+	void waitForServer(long timeout) throws IOException, InterruptedException {
+		long deadline = (System.currentTimeMillis() + timeout);
+
+		while (System.currentTimeMillis() < deadline) {
+			if (!process.isAlive()) {
+				int exitValue = process.exitValue();
+
+				stop();
+
+				throw new IllegalStateException(String.format("GemFire Server exited with status [%d]", exitValue));
+			}
+
+			try (Socket socket = new Socket()) {
+				socket.connect(new InetSocketAddress(getHost(), port), 500);
+				return;
+			}
+			catch (IOException ignore) {
+				TimeUnit.MILLISECONDS.sleep(50);
+			}
+		}
+
+		stop();
+
+		throw new IllegalStateException(String.format("GemFire Server failed to start in [%d] ms", timeout));
+	}
+
+	public synchronized void stop() {
+		if (process != null) {
+			process.destroy();
+
+			try {
+				if (!process.waitFor(30, TimeUnit.SECONDS)) {
+					process.destroyForcibly();
+				}
+			}
+			catch (InterruptedException ignore) {
+				process.destroyForcibly();
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				process = null;
+			}
+		}
+	}
+}
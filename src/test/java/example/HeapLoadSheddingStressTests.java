@@ -0,0 +1,136 @@
+package example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.gemstone.gemfire.cache.client.ClientCache;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+
+/**
+ * Stress test driving a GemFire Server with a small heap to its load shedding threshold, asserting that new Session
+ * creation is rejected while the Sessions already stored can still be read, promptly.
+ *
+ * The server's Sessions do not expire during the test, so the heap grows with every Session saved.  However,
+ * whether load shedding (measured on the heap after collection) engages before GemFire's critical heap threshold
+ * depends on the JVM's garbage collector and the machine, so the test only runs, like the benchmarks, when
+ * the {@literal benchmark} System property is set to {@literal true}.
+ *
+ * @author John Blum
+ * @see example.GemFireServerFixture
+ * @see example.server.HeapMonitor
+ * @since 1.0.0
+ */
+public class HeapLoadSheddingStressTests {
+
+	protected static final int SESSION_PAYLOAD_SIZE = 256 * 1024;
+	protected static final int THREAD_COUNT = 8;
+
+	protected static final long MAX_READ_LATENCY = TimeUnit.SECONDS.toMillis(2);
+	protected static final long STRESS_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+	private static ClientCache gemfireCache;
+
+	private static GemFireServerFixture gemfireServer;
+
+	private static GemFireOperationsSessionRepository sessionRepository;
+
+	@BeforeClass
+	public static void setupGemFireCacheClient() throws Exception {
+		Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+		gemfireServer = new GemFireServerFixture(
+			"--gemfire.resource-manager.eviction-heap-percentage=0",
+			"--gemfire.resource-manager.critical-heap-percentage=90",
+			"--gemfire.session.creation.heap-percentage=60",
+			"--gemfire.session.max-inactive-interval=3600").withJvmArguments("-Xms128m", "-Xmx128m").start();
+
+		gemfireCache = GemFireServerFixture.newClientCache(HeapLoadSheddingStressTests.class);
+		sessionRepository = GemFireServerFixture.newSessionRepository(gemfireServer.newClientSessionRegion("StressPool"));
+	}
+
+	@AfterClass
+	public static void shutdownGemFireCacheClient() {
+		if (gemfireCache != null) {
+			gemfireCache.close();
+		}
+
+		if (gemfireServer != null) {
+			gemfireServer.stop();
+		}
+	}
+
+	static boolean isRejectedSessionCreation(Throwable cause) {
+		return GemFireServerFixture.messages(cause).contains("was not created");
+	}
+
+	@Test
+	public void serverRejectsNewSessionsButServesReadsAtHeapLimit() throws Exception {
+		AtomicBoolean rejected = new AtomicBoolean(false);
+		AtomicReference<ExpiringSession> lastSavedSession = new AtomicReference<>();
+
+		long timeout = (System.currentTimeMillis() + STRESS_TIMEOUT);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>(THREAD_COUNT);
+
+			for (int thread = 0; thread < THREAD_COUNT; thread++) {
+				tasks.add(() -> {
+					while (!rejected.get() && System.currentTimeMillis() < timeout) {
+						ExpiringSession session = sessionRepository.createSession();
+
+						session.setAttribute("payload", new byte[SESSION_PAYLOAD_SIZE]);
+
+						try {
+							sessionRepository.save(session);
+							lastSavedSession.set(session);
+						}
+						catch (RuntimeException cause) {
+							if (isRejectedSessionCreation(cause)) {
+								rejected.set(true);
+							}
+							else {
+								throw cause;
+							}
+						}
+					}
+
+					return null;
+				});
+			}
+
+			for (Future<Void> future : executorService.invokeAll(tasks)) {
+				future.get();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(rejected.get()).isTrue();
+		assertThat(lastSavedSession.get()).isNotNull();
+
+		long t0 = System.currentTimeMillis();
+
+		ExpiringSession session = sessionRepository.getSession(lastSavedSession.get().getId());
+
+		assertThat(System.currentTimeMillis() - t0).isLessThan(MAX_READ_LATENCY);
+		assertThat(session).isEqualTo(lastSavedSession.get());
+	}
+}
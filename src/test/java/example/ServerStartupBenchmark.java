@@ -0,0 +1,128 @@
+package example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Benchmark measuring the time it takes a {@link example.server.SpringBootGemFireServer}, launched by
+ * the {@link GemFireServerFixture}, to start accepting client connections (i.e. time-to-first-request)
+ * with each startup option on its own.
+ *
+ * The benchmark only runs when the {@literal benchmark} System property is set to {@literal true}.  When
+ * {@literal benchmark.cds-archive} is set to a class data sharing archive (see the {@literal cdsArchiveServer}
+ * Gradle task), the benchmark also compares startup with and without the archive on the JDK the archive was created
+ * with ({@literal benchmark.cds-java-home}) and with the archive's classpath ({@literal benchmark.cds-classpath},
+ * set by the Gradle build).  The archive is required ({@literal -Xshare:on}), so a mismatched archive fails
+ * the benchmark rather than being silently ignored.
+ *
+ * @author John Blum
+ * @see example.GemFireServerFixture
+ * @see example.support.StartupProfiler
+ * @since 1.0.0
+ */
+public class ServerStartupBenchmark {
+
+	protected static final int DEFAULT_RUNS = 5;
+
+	@BeforeClass
+	public static void assumeBenchmark() {
+		Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+	}
+
+	static boolean isCdsConfigured() {
+		return StringUtils.hasText(System.getProperty("benchmark.cds-archive"));
+	}
+
+	static GemFireServerFixture newGemFireServerFixture(boolean cdsJdk, boolean cdsArchive, String... arguments) {
+		GemFireServerFixture gemfireServer = new GemFireServerFixture(arguments);
+
+		if (cdsJdk) {
+			String cdsJavaHome = System.getProperty("benchmark.cds-java-home");
+			String cdsClasspath = System.getProperty("benchmark.cds-classpath");
+
+			Assert.state(StringUtils.hasText(cdsJavaHome),
+				"benchmark.cds-java-home must be set to the JDK (13 or later) the CDS archive was created with");
+
+			Assert.state(StringUtils.hasText(cdsClasspath),
+				"benchmark.cds-classpath must be set to the classpath the CDS archive was created with");
+
+			gemfireServer.withJavaHome(cdsJavaHome).withClasspath(cdsClasspath);
+		}
+
+		if (cdsArchive) {
+			gemfireServer.withJvmArguments("-Xshare:on",
+				String.format("-XX:SharedArchiveFile=%s",
+					new File(System.getProperty("benchmark.cds-archive")).getAbsolutePath()));
+		}
+
+		return gemfireServer;
+	}
+
+	long[] measureStartupTimes(int runs, boolean cdsJdk, boolean cdsArchive, String... arguments) throws Exception {
+		long[] startupTimes = new long[runs];
+
+		for (int run = 0; run < runs; run++) {
+			GemFireServerFixture gemfireServer = newGemFireServerFixture(cdsJdk, cdsArchive, arguments);
+
+			try {
+				startupTimes[run] = gemfireServer.start().getStartupTime();
+			}
+			finally {
+				gemfireServer.stop();
+			}
+		}
+
+		Arrays.sort(startupTimes);
+
+		return startupTimes;
+	}
+
+	static long median(long[] startupTimes) {
+		return startupTimes[startupTimes.length / 2];
+	}
+
+	@Test
+	public void serverStartupTime() throws Exception {
+		int runs = Integer.getInteger("benchmark.startup.runs", DEFAULT_RUNS);
+
+		Map<String, long[]> results = new LinkedHashMap<>();
+
+		results.put("default", measureStartupTimes(runs, false, false));
+
+		results.put("lazy JMX Manager", measureStartupTimes(runs, false, false,
+			"--gemfire.manager.start-lazily=true"));
+
+		results.put("no Locator", measureStartupTimes(runs, false, false,
+			"--gemfire.locator.enabled=false"));
+
+		if (isCdsConfigured()) {
+			results.put("default (CDS JDK, no archive)", measureStartupTimes(runs, true, false));
+			results.put("default (CDS JDK, archive)", measureStartupTimes(runs, true, true));
+		}
+
+		System.err.printf("%n%1$-40s %2$10s %3$10s %4$10s%n", "configuration", "min (ms)", "median (ms)", "max (ms)");
+
+		results.forEach((configuration, startupTimes) -> System.err.printf("%1$-40s %2$10d %3$10d %4$10d%n",
+			configuration, startupTimes[0], median(startupTimes), startupTimes[startupTimes.length - 1]));
+
+		long defaultStartupTime = median(results.get("default"));
+
+		assertThat(median(results.get("lazy JMX Manager"))).isLessThanOrEqualTo(defaultStartupTime);
+		assertThat(median(results.get("no Locator"))).isLessThanOrEqualTo(defaultStartupTime);
+
+		if (isCdsConfigured()) {
+			assertThat(median(results.get("default (CDS JDK, archive)")))
+				.isLessThanOrEqualTo(median(results.get("default (CDS JDK, no archive)")));
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package example;
+
+import static example.GemFireServerFixture.messages;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.gemstone.gemfire.cache.client.ClientCache;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+
+/**
+ * Integration tests for the maximum Session size enforced by the {@link example.server.SessionCacheWriter},
+ * asserting that oversized Sessions are rejected on the cache client, whether the Session is created or updated
+ * with a delta.
+ *
+ * @author John Blum
+ * @see example.GemFireServerFixture
+ * @see example.server.SessionCacheWriter
+ * @since 1.0.0
+ */
+public class SessionSizeLimitTests {
+
+	protected static final int MAX_SESSION_SIZE = 1024;
+
+	@ClassRule
+	public static final GemFireServerFixture gemfireServer = new GemFireServerFixture(
+		String.format("--gemfire.session.max-size=%d", MAX_SESSION_SIZE),
+		"--gemfire.session.max-inactive-interval=300");
+
+	private static ClientCache gemfireCache;
+
+	private static GemFireOperationsSessionRepository sessionRepository;
+
+	@BeforeClass
+	public static void setupGemFireCacheClient() throws Exception {
+		gemfireCache = GemFireServerFixture.newClientCache(SessionSizeLimitTests.class);
+		sessionRepository = GemFireServerFixture.newSessionRepository(
+			gemfireServer.newClientSessionRegion("SessionSizeLimitPool"));
+	}
+
+	@AfterClass
+	public static void shutdownGemFireCacheClient() {
+		if (gemfireCache != null) {
+			gemfireCache.close();
+		}
+	}
+
+	void assertSaveRejected(ExpiringSession session) {
+		try {
+			sessionRepository.save(session);
+			fail(String.format("Expected Session [%s] to be rejected", session.getId()));
+		}
+		catch (RuntimeException expected) {
+			assertThat(messages(expected)).contains(String.format("Session [%1$s] of size [", session.getId()))
+				.contains(String.format("exceeds the maximum Session size of [%d] bytes", MAX_SESSION_SIZE));
+		}
+	}
+
+	@Test
+	public void oversizedSessionCreationIsRejected() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("payload", new byte[MAX_SESSION_SIZE * 4]);
+
+		assertSaveRejected(session);
+		assertThat(sessionRepository.getSession(session.getId())).isNull();
+	}
+
+	@Test
+	public void oversizedSessionDeltaUpdateIsRejected() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("name", "test");
+		sessionRepository.save(session);
+
+		ExpiringSession storedSession = sessionRepository.getSession(session.getId());
+
+		assertThat(storedSession).isNotNull();
+
+		storedSession.setAttribute("payload", new byte[MAX_SESSION_SIZE * 4]);
+
+		assertSaveRejected(storedSession);
+
+		ExpiringSession unchangedSession = sessionRepository.getSession(session.getId());
+
+		assertThat(unchangedSession).isNotNull();
+		assertThat(unchangedSession.<String>getAttribute("name")).isEqualTo("test");
+		assertThat(unchangedSession.getAttributeNames()).doesNotContain("payload");
+	}
+
+	@Test
+	public void sessionWithinLimitIsSaved() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("payload", new byte[MAX_SESSION_SIZE / 4]);
+		sessionRepository.save(session);
+
+		assertThat(sessionRepository.getSession(session.getId())).isEqualTo(session);
+	}
+}
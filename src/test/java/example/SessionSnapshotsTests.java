@@ -0,0 +1,184 @@
+package example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.client.ClientCache;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+
+import example.support.SessionSnapshots;
+
+/**
+ * Integration tests for {@link SessionSnapshots}, exporting the Sessions of a GemFire Server launched by
+ * the {@link GemFireServerFixture} to a snapshot file and importing them again.
+ *
+ * @author John Blum
+ * @see example.GemFireServerFixture
+ * @see example.support.SessionSnapshots
+ * @since 1.0.0
+ */
+public class SessionSnapshotsTests {
+
+	protected static final int BATCH_SIZE = 10;
+	protected static final int SNAPSHOT_MAGIC_NUMBER = 0x53534E50;
+	protected static final int SESSION_COUNT = 25;
+
+	@ClassRule
+	public static final GemFireServerFixture gemfireServer =
+		new GemFireServerFixture("--gemfire.session.max-inactive-interval=300");
+
+	private static ClientCache gemfireCache;
+
+	private static GemFireOperationsSessionRepository sessionRepository;
+
+	private static Region<Object, ExpiringSession> sessionRegion;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@BeforeClass
+	public static void setupGemFireCacheClient() throws Exception {
+		gemfireCache = GemFireServerFixture.newClientCache(SessionSnapshotsTests.class);
+		sessionRegion = gemfireServer.newClientSessionRegion("SessionSnapshotsPool");
+		sessionRepository = GemFireServerFixture.newSessionRepository(sessionRegion);
+	}
+
+	@AfterClass
+	public static void shutdownGemFireCacheClient() {
+		if (gemfireCache != null) {
+			gemfireCache.close();
+		}
+	}
+
+	@Before
+	public void removeAllSessions() {
+		sessionRegion.removeAll(sessionRegion.keySetOnServer());
+	}
+
+	ExpiringSession saveSession(int index) {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("index", index);
+		session.setAttribute("name", String.format("session-%d", index));
+		sessionRepository.save(session);
+
+		return session;
+	}
+
+	File writeSnapshotHeader(int magicNumber, int version) throws IOException {
+		File snapshot = temporaryFolder.newFile("invalid.snapshot");
+
+		try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(snapshot)))) {
+			out.writeInt(magicNumber);
+			out.writeShort(version);
+			out.writeLong(System.currentTimeMillis());
+			out.writeBoolean(false);
+		}
+
+		return snapshot;
+	}
+
+	@Test
+	public void exportedSessionsAreImported() throws IOException {
+		List<ExpiringSession> sessions = new ArrayList<>(SESSION_COUNT);
+
+		for (int index = 0; index < SESSION_COUNT; index++) {
+			sessions.add(saveSession(index));
+		}
+
+		File snapshot = temporaryFolder.newFile("sessions.snapshot");
+
+		SessionSnapshots.Summary exportSummary = SessionSnapshots.exportSnapshot(sessionRegion, snapshot, BATCH_SIZE);
+
+		assertThat(exportSummary.getProcessed()).isEqualTo(SESSION_COUNT);
+
+		removeAllSessions();
+
+		assertThat(sessionRegion.keySetOnServer()).isEmpty();
+
+		SessionSnapshots.Summary importSummary = SessionSnapshots.importSnapshot(sessionRegion, snapshot, BATCH_SIZE);
+
+		assertThat(importSummary.getProcessed()).isEqualTo(SESSION_COUNT);
+		assertThat(importSummary.getSkipped()).isEqualTo(0);
+
+		for (ExpiringSession expectedSession : sessions) {
+			ExpiringSession importedSession = sessionRepository.getSession(expectedSession.getId());
+
+			assertThat(importedSession).isNotNull();
+			assertThat(importedSession.getCreationTime()).isEqualTo(expectedSession.getCreationTime());
+			assertThat(importedSession.<Integer>getAttribute("index"))
+				.isEqualTo(expectedSession.<Integer>getAttribute("index"));
+			assertThat(importedSession.<String>getAttribute("name"))
+				.isEqualTo(expectedSession.<String>getAttribute("name"));
+		}
+	}
+
+	@Test
+	public void expiredSessionsAreSkippedOnImport() throws IOException {
+		saveSession(1);
+
+		ExpiringSession expiredSession = sessionRepository.createSession();
+
+		expiredSession.setMaxInactiveIntervalInSeconds(60);
+		expiredSession.setLastAccessedTime(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(2));
+		sessionRepository.save(expiredSession);
+
+		File snapshot = temporaryFolder.newFile("sessions.snapshot");
+
+		assertThat(SessionSnapshots.exportSnapshot(sessionRegion, snapshot, BATCH_SIZE).getProcessed())
+			.isEqualTo(2);
+
+		removeAllSessions();
+
+		SessionSnapshots.Summary importSummary = SessionSnapshots.importSnapshot(sessionRegion, snapshot, BATCH_SIZE);
+
+		assertThat(importSummary.getProcessed()).isEqualTo(1);
+		assertThat(importSummary.getSkipped()).isEqualTo(1);
+		assertThat(sessionRegion.keySetOnServer()).hasSize(1).doesNotContain(expiredSession.getId());
+	}
+
+	@Test
+	public void importRejectsFileWithWrongMagicNumber() throws IOException {
+		File snapshot = writeSnapshotHeader(0xCAFEBABE, 1);
+
+		try {
+			SessionSnapshots.importSnapshot(sessionRegion, snapshot, BATCH_SIZE);
+			fail("Expected the import of a file that is not a Session snapshot to fail");
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessage(String.format("File [%s] is not a Session snapshot", snapshot));
+		}
+	}
+
+	@Test
+	public void importRejectsUnsupportedFormatVersion() throws IOException {
+		File snapshot = writeSnapshotHeader(SNAPSHOT_MAGIC_NUMBER, 99);
+
+		try {
+			SessionSnapshots.importSnapshot(sessionRegion, snapshot, BATCH_SIZE);
+			fail("Expected the import of an unsupported Session snapshot format version to fail");
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessageStartingWith("Session snapshot format version [99] is not supported");
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package example;
+
+import static example.GemFireServerFixture.messages;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.client.ClientCache;
+import com.gemstone.gemfire.cache.client.Pool;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+
+import example.support.SessionAttributeKey;
+import example.support.SessionSnapshots;
+import example.support.SplitGemFireOperationsSessionRepository;
+
+/**
+ * Integration tests for the {@link SplitGemFireOperationsSessionRepository} against a GemFire Server launched by
+ * the {@link GemFireServerFixture} with the split storage layout.
+ *
+ * @author John Blum
+ * @see example.GemFireServerFixture
+ * @see example.support.SplitGemFireOperationsSessionRepository
+ * @since 1.0.0
+ */
+public class SplitGemFireOperationsSessionRepositoryTests {
+
+	protected static final int BATCH_SIZE = 10;
+	protected static final int MAX_SESSION_SIZE = 4096;
+
+	@ClassRule
+	public static final GemFireServerFixture gemfireServer = new GemFireServerFixture(
+		"--gemfire.session.storage-layout=split",
+		"--gemfire.session.max-inactive-interval=300",
+		String.format("--gemfire.session.max-size=%d", MAX_SESSION_SIZE));
+
+	private static ClientCache gemfireCache;
+
+	private static Region<Object, ExpiringSession> sessionRegion;
+
+	private static Region<SessionAttributeKey, Object> sessionAttributesRegion;
+
+	private static SplitGemFireOperationsSessionRepository sessionRepository;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@BeforeClass
+	public static void setupGemFireCacheClient() throws Exception {
+		gemfireCache = GemFireServerFixture.newClientCache(SplitGemFireOperationsSessionRepositoryTests.class);
+
+		Pool gemfirePool = gemfireServer.newPool("SplitSessionStoragePool");
+
+		sessionRegion = GemFireServerFixture.newClientProxyRegion(gemfirePool,
+			GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME);
+
+		sessionAttributesRegion = GemFireServerFixture.newClientProxyRegion(gemfirePool,
+			SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME);
+
+		sessionRepository = newSplitSessionRepository(sessionRegion, sessionAttributesRegion);
+	}
+
+	static SplitGemFireOperationsSessionRepository newSplitSessionRepository(
+			Region<Object, ExpiringSession> sessionRegion, Region<SessionAttributeKey, Object> sessionAttributesRegion)
+			throws Exception {
+
+		SplitGemFireOperationsSessionRepository sessionRepository =
+			new SplitGemFireOperationsSessionRepository(new GemfireTemplate(sessionRegion), sessionAttributesRegion);
+
+		sessionRepository.afterPropertiesSet();
+
+		return sessionRepository;
+	}
+
+	/**
+	 * Waits until the server no longer has the given attribute entry or the timeout elapses.
+	 */
+	static void waitForAttributeRemoval(Region<SessionAttributeKey, Object> sessionAttributesRegion,
+			SessionAttributeKey sessionAttributeKey) throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+
+		while (sessionAttributesRegion.containsKeyOnServer(sessionAttributeKey)
+				&& System.currentTimeMillis() < timeout) {
+
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+	}
+
+	@AfterClass
+	public static void shutdownGemFireCacheClient() {
+		if (gemfireCache != null) {
+			gemfireCache.close();
+		}
+	}
+
+	@Before
+	public void removeAllSessions() {
+		sessionRegion.removeAll(sessionRegion.keySetOnServer());
+		sessionAttributesRegion.removeAll(sessionAttributesRegion.keySetOnServer());
+	}
+
+	static SessionAttributeKey key(ExpiringSession session, String attributeName) {
+		return new SessionAttributeKey(session.getId(), attributeName);
+	}
+
+	ExpiringSession saveSession(String... attributeNames) {
+		ExpiringSession session = sessionRepository.createSession();
+
+		for (String attributeName : attributeNames) {
+			session.setAttribute(attributeName, attributeName.toUpperCase());
+		}
+
+		sessionRepository.save(session);
+
+		return session;
+	}
+
+	@Test
+	public void attributesAreStoredAsSeparateEntries() {
+		ExpiringSession session = saveSession("one", "two");
+
+		assertThat(sessionAttributesRegion.get(key(session, "one"))).isEqualTo("ONE");
+		assertThat(sessionAttributesRegion.get(key(session, "two"))).isEqualTo("TWO");
+		assertThat(sessionRegion.get(session.getId()).getAttributeNames()).doesNotContain("one", "two");
+
+		ExpiringSession storedSession = sessionRepository.getSession(session.getId());
+
+		assertThat(storedSession.getAttributeNames()).containsOnly("one", "two");
+		assertThat(storedSession.<String>getAttribute("one")).isEqualTo("ONE");
+	}
+
+	@Test
+	public void attributesAreLoadedLazily() {
+		ExpiringSession session = saveSession("name");
+
+		ExpiringSession storedSession = sessionRepository.getSession(session.getId());
+
+		sessionAttributesRegion.put(key(session, "name"), "CHANGED");
+
+		assertThat(storedSession.<String>getAttribute("name")).isEqualTo("CHANGED");
+	}
+
+	@Test
+	public void onlyModifiedAttributesAreWritten() {
+		ExpiringSession session = saveSession("one", "two");
+
+		ExpiringSession storedSession = sessionRepository.getSession(session.getId());
+
+		storedSession.setAttribute("one", "CHANGED");
+		sessionAttributesRegion.put(key(session, "two"), "WRITTEN ELSEWHERE");
+		sessionRepository.save(storedSession);
+
+		assertThat(sessionAttributesRegion.get(key(session, "one"))).isEqualTo("CHANGED");
+		assertThat(sessionAttributesRegion.get(key(session, "two"))).isEqualTo("WRITTEN ELSEWHERE");
+	}
+
+	@Test
+	public void removedAttributesAreRemoved() {
+		ExpiringSession session = saveSession("one", "two");
+
+		ExpiringSession storedSession = sessionRepository.getSession(session.getId());
+
+		storedSession.removeAttribute("one");
+		sessionRepository.save(storedSession);
+
+		assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "one"))).isFalse();
+		assertThat(sessionRepository.getSession(session.getId()).getAttributeNames()).containsOnly("two");
+	}
+
+	@Test
+	public void concurrentlyAddedAttributesAreMerged() {
+		ExpiringSession session = saveSession();
+
+		ExpiringSession sessionOne = sessionRepository.getSession(session.getId());
+		ExpiringSession sessionTwo = sessionRepository.getSession(session.getId());
+
+		sessionOne.setAttribute("one", "ONE");
+		sessionTwo.setAttribute("two", "TWO");
+		sessionRepository.save(sessionOne);
+		sessionRepository.save(sessionTwo);
+
+		ExpiringSession storedSession = sessionRepository.getSession(session.getId());
+
+		assertThat(storedSession.getAttributeNames()).containsOnly("one", "two");
+		assertThat(storedSession.<String>getAttribute("one")).isEqualTo("ONE");
+		assertThat(storedSession.<String>getAttribute("two")).isEqualTo("TWO");
+	}
+
+	@Test
+	public void deletedSessionAttributesAreRemoved() throws InterruptedException {
+		ExpiringSession session = saveSession("one");
+
+		sessionRepository.delete(session.getId());
+		waitForAttributeRemoval(sessionAttributesRegion, key(session, "one"));
+
+		assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "one"))).isFalse();
+	}
+
+	@Test
+	public void attributeOfNonExistingSessionIsRejected() {
+		SessionAttributeKey sessionAttributeKey = new SessionAttributeKey("non-existing-session", "name");
+
+		try {
+			sessionAttributesRegion.put(sessionAttributeKey, "value");
+			fail("Expected the attribute of a Session that does not exist to be rejected");
+		}
+		catch (RuntimeException expected) {
+			assertThat(messages(expected)).contains("the Session does not exist");
+		}
+
+		assertThat(sessionAttributesRegion.containsKeyOnServer(sessionAttributeKey)).isFalse();
+	}
+
+	@Test
+	public void oversizedSessionIsRejectedWithoutAttributes() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("name", "test");
+		session.setAttribute("payload", new byte[MAX_SESSION_SIZE * 2]);
+
+		try {
+			sessionRepository.save(session);
+			fail(String.format("Expected Session [%s] to be rejected", session.getId()));
+		}
+		catch (RuntimeException expected) {
+			assertThat(messages(expected)).contains(String.format("Session [%1$s] of size [", session.getId()))
+				.contains(String.format("exceeds the maximum Session size of [%d] bytes", MAX_SESSION_SIZE));
+		}
+
+		assertThat(sessionRepository.getSession(session.getId())).isNull();
+		assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "name"))).isFalse();
+		assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "payload"))).isFalse();
+	}
+
+	@Test
+	public void snapshotIncludesAttributes() throws IOException {
+		ExpiringSession session = saveSession("one", "two");
+
+		File snapshot = temporaryFolder.newFile("sessions.snapshot");
+
+		SessionSnapshots.Summary exportSummary =
+			SessionSnapshots.exportSnapshot(sessionRegion, sessionAttributesRegion, snapshot, BATCH_SIZE);
+
+		assertThat(exportSummary.getProcessed()).isEqualTo(1);
+		assertThat(exportSummary.getAttributes()).isEqualTo(2);
+
+		removeAllSessions();
+
+		SessionSnapshots.Summary importSummary =
+			SessionSnapshots.importSnapshot(sessionRegion, sessionAttributesRegion, snapshot, BATCH_SIZE);
+
+		assertThat(importSummary.getProcessed()).isEqualTo(1);
+		assertThat(importSummary.getAttributes()).isEqualTo(2);
+
+		ExpiringSession importedSession = sessionRepository.getSession(session.getId());
+
+		assertThat(importedSession).isNotNull();
+		assertThat(importedSession.getAttributeNames()).containsOnly("one", "two");
+		assertThat(importedSession.<String>getAttribute("one")).isEqualTo("ONE");
+		assertThat(importedSession.<String>getAttribute("two")).isEqualTo("TWO");
+	}
+}
@@ -0,0 +1,98 @@
+package example;
+
+import static example.SplitGemFireOperationsSessionRepositoryTests.key;
+import static example.SplitGemFireOperationsSessionRepositoryTests.waitForAttributeRemoval;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.client.ClientCache;
+import com.gemstone.gemfire.cache.client.Pool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+
+import example.AbstractGemFireCacheClientSessionTests.ExpirationWatch;
+import example.support.SessionAttributeKey;
+import example.support.SplitGemFireOperationsSessionRepository;
+
+/**
+ * Integration tests for the expiration of Sessions stored with the split storage layout, asserting that
+ * the attribute entries of an expired Session are removed along with its metadata entry.
+ *
+ * The GemFire Server expires Sessions after the default 1 second of inactivity and the orphan sweep is disabled,
+ * so the attribute entries can only be removed by the cascade on the invalidation of the metadata entry.
+ *
+ * @author John Blum
+ * @see example.GemFireServerFixture
+ * @see example.server.SessionAttributesCascadingCacheListener
+ * @since 1.0.0
+ */
+public class SplitSessionExpirationTests {
+
+	@ClassRule
+	public static final GemFireServerFixture gemfireServer = new GemFireServerFixture(
+		"--gemfire.session.storage-layout=split",
+		"--gemfire.session.attributes.orphan-sweep-interval=0");
+
+	private static ClientCache gemfireCache;
+
+	private static Region<Object, ExpiringSession> sessionRegion;
+
+	private static Region<SessionAttributeKey, Object> sessionAttributesRegion;
+
+	private static SplitGemFireOperationsSessionRepository sessionRepository;
+
+	@BeforeClass
+	public static void setupGemFireCacheClient() throws Exception {
+		gemfireCache = GemFireServerFixture.newClientCache(SplitSessionExpirationTests.class);
+
+		Pool gemfirePool = gemfireServer.newPool("SplitSessionExpirationPool");
+
+		sessionRegion = GemFireServerFixture.newClientProxyRegion(gemfirePool,
+			GemFireHttpSessionConfiguration.DEFAULT_SPRING_SESSION_GEMFIRE_REGION_NAME);
+
+		sessionAttributesRegion = GemFireServerFixture.newClientProxyRegion(gemfirePool,
+			SplitGemFireOperationsSessionRepository.SESSION_ATTRIBUTES_REGION_NAME);
+
+		sessionRepository = SplitGemFireOperationsSessionRepositoryTests.newSplitSessionRepository(sessionRegion,
+			sessionAttributesRegion);
+	}
+
+	@AfterClass
+	public static void shutdownGemFireCacheClient() {
+		if (gemfireCache != null) {
+			gemfireCache.close();
+		}
+	}
+
+	@Test
+	public void expiredSessionAttributesAreRemoved() throws InterruptedException {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("one", "ONE");
+		session.setAttribute("two", "TWO");
+
+		try (ExpirationWatch expirationWatch = new ExpirationWatch(sessionRegion,
+				Collections.singleton(session.getId()))) {
+
+			sessionRepository.save(session);
+
+			assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "one"))).isTrue();
+			assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "two"))).isTrue();
+			assertThat(expirationWatch.await(TimeUnit.SECONDS.toMillis(10))).isTrue();
+		}
+
+		waitForAttributeRemoval(sessionAttributesRegion, key(session, "one"));
+		waitForAttributeRemoval(sessionAttributesRegion, key(session, "two"));
+
+		assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "one"))).isFalse();
+		assertThat(sessionAttributesRegion.containsKeyOnServer(key(session, "two"))).isFalse();
+	}
+}
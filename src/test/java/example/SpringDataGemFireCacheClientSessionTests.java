@@ -21,6 +21,7 @@ import org.springframework.data.gemfire.support.ConnectionEndpoint;
 import org.springframework.session.ExpiringSession;
 import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
@@ -42,6 +43,7 @@ import example.support.NumberUtils;
  */
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(classes = SpringDataGemFireCacheClientSessionTests.GemFireCacheClientJavaConfiguration.class)
+@DirtiesContext
 @SuppressWarnings("unused")
 public class SpringDataGemFireCacheClientSessionTests extends AbstractGemFireCacheClientSessionTests {
 
@@ -54,29 +56,33 @@ public class SpringDataGemFireCacheClientSessionTests extends AbstractGemFireCac
 	}
 
 	@Test
-	public void sessionCreationAccessAndExpirationIsSuccessful() {
-		ExpiringSession expected = save(touch(newSession()));
+	public void sessionCreationAccessAndExpirationIsSuccessful() throws Exception {
+		ExpiringSession session = touch(newSession());
 
-		assertThat(expected).isNotNull();
-		assertThat(expected.isExpired()).isFalse();
+		try (ExpirationWatch expirationWatch = watchForExpiration(session.getId())) {
+			ExpiringSession expected = save(session);
 
-		ExpiringSession actual = loadFromRegion(expected.getId());
+			assertThat(expected).isNotNull();
+			assertThat(expected.isExpired()).isFalse();
 
-		assertThat(actual).isNotNull();
-		assertThat(actual.isExpired()).isFalse();
-		assertThat(actual).isEqualTo(expected);
+			ExpiringSession actual = loadFromRegion(expected.getId());
 
-		// Session timeout (i.e. GemFire's "ClusteredSpringSessions" Region expiration idle-timeout)
-		// is set to 1 second
-		waitOnConditionForDuration(() -> false, TimeUnit.SECONDS.toMillis(2));
+			assertThat(actual).isNotNull();
+			assertThat(actual.isExpired()).isFalse();
+			assertThat(actual).isEqualTo(expected);
 
-		actual = load(actual.getId());
+			// Session timeout (i.e. GemFire's "ClusteredSpringSessions" Region expiration idle-timeout)
+			// is set to 1 second
+			assertThat(expirationWatch.await(TimeUnit.SECONDS.toMillis(10))).isTrue();
 
-		assertThat(actual).isNull();
+			actual = load(actual.getId());
 
-		actual = loadFromRegion(expected.getId());
+			assertThat(actual).isNull();
 
-		assertThat(actual).isNull();
+			actual = loadFromRegion(expected.getId());
+
+			assertThat(actual).isNull();
+		}
 	}
 
 	@Configuration
@@ -0,0 +1,224 @@
+package example.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Test;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Unit tests for the {@link SessionLoadDriver} workload configuration and operation selection.
+ *
+ * @author John Blum
+ * @see example.app.SessionLoadDriver
+ * @since 1.0.0
+ */
+public class SessionLoadDriverTests {
+
+	protected static final int SESSION_COUNT = 10;
+
+	static SessionLoadDriver newSessionLoadDriver(String mix) {
+		return newSessionLoadDriver(new MapSessionRepository(), mix);
+	}
+
+	static SessionLoadDriver newSessionLoadDriver(SessionRepository<ExpiringSession> sessionRepository, String mix) {
+		return new SessionLoadDriver(sessionRepository, 2, SESSION_COUNT, 0, 1000L, mix, "16-32");
+	}
+
+	@Test
+	public void parseMixReturnsCumulativeWeights() {
+		assertThat(SessionLoadDriver.parseMix("80:15:5")).containsExactly(80, 95, 100);
+		assertThat(SessionLoadDriver.parseMix(" 0 : 1 : 0 ")).containsExactly(0, 1, 1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseMixRejectsNegativeWeights() {
+		SessionLoadDriver.parseMix("80:-10:30");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseMixRejectsMissingWeights() {
+		SessionLoadDriver.parseMix("80:20");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseMixRejectsNonNumericWeights() {
+		SessionLoadDriver.parseMix("80:twenty:0");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseMixRejectsAllZeroWeights() {
+		SessionLoadDriver.parseMix("0:0:0");
+	}
+
+	@Test
+	public void parseRangeReturnsMinAndMax() {
+		assertThat(SessionLoadDriver.parseRange("256-4096")).containsExactly(256, 4096);
+		assertThat(SessionLoadDriver.parseRange(" 256 - 4096 ")).containsExactly(256, 4096);
+	}
+
+	@Test
+	public void parseRangeOfFixedSizeReturnsSameMinAndMax() {
+		assertThat(SessionLoadDriver.parseRange("1024")).containsExactly(1024, 1024);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseRangeRejectsNegativeBounds() {
+		SessionLoadDriver.parseRange("-256-4096");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseRangeRejectsNegativeFixedSize() {
+		SessionLoadDriver.parseRange("-1");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parseRangeRejectsDescendingBounds() {
+		SessionLoadDriver.parseRange("4096-256");
+	}
+
+	@Test
+	public void operationAtFollowsCumulativeWeights() {
+		SessionLoadDriver sessionLoadDriver = newSessionLoadDriver("80:15:5");
+
+		assertThat(sessionLoadDriver.operationAt(0)).isEqualTo(SessionLoadDriver.Operation.READ);
+		assertThat(sessionLoadDriver.operationAt(79)).isEqualTo(SessionLoadDriver.Operation.READ);
+		assertThat(sessionLoadDriver.operationAt(80)).isEqualTo(SessionLoadDriver.Operation.WRITE);
+		assertThat(sessionLoadDriver.operationAt(94)).isEqualTo(SessionLoadDriver.Operation.WRITE);
+		assertThat(sessionLoadDriver.operationAt(95)).isEqualTo(SessionLoadDriver.Operation.DELETE);
+		assertThat(sessionLoadDriver.operationAt(99)).isEqualTo(SessionLoadDriver.Operation.DELETE);
+	}
+
+	@Test
+	public void nextOperationSkipsZeroWeightOperations() {
+		SessionLoadDriver sessionLoadDriver = newSessionLoadDriver("0:1:0");
+		Random random = new Random(42L);
+
+		for (int count = 0; count < 100; count++) {
+			assertThat(sessionLoadDriver.nextOperation(random)).isEqualTo(SessionLoadDriver.Operation.WRITE);
+		}
+	}
+
+	@Test
+	public void nextOperationFollowsMix() {
+		SessionLoadDriver sessionLoadDriver = newSessionLoadDriver("80:15:5");
+		Random random = new Random(42L);
+
+		Map<SessionLoadDriver.Operation, Integer> counts = new EnumMap<>(SessionLoadDriver.Operation.class);
+
+		int total = 100000;
+
+		for (int count = 0; count < total; count++) {
+			counts.merge(sessionLoadDriver.nextOperation(random), 1, Integer::sum);
+		}
+
+		assertThat(counts.get(SessionLoadDriver.Operation.READ) / (double) total).isBetween(0.79d, 0.81d);
+		assertThat(counts.get(SessionLoadDriver.Operation.WRITE) / (double) total).isBetween(0.14d, 0.16d);
+		assertThat(counts.get(SessionLoadDriver.Operation.DELETE) / (double) total).isBetween(0.04d, 0.06d);
+	}
+
+	static SessionLoadDriver newPopulatedSessionLoadDriver(MapSessionRepository sessionRepository, String mix)
+			throws Exception {
+
+		SessionLoadDriver sessionLoadDriver = newSessionLoadDriver(sessionRepository, mix);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			sessionLoadDriver.populate(executorService);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		return sessionLoadDriver;
+	}
+
+	static Set<String> sessionIds(SessionLoadDriver sessionLoadDriver) {
+		Set<String> sessionIds = new HashSet<>();
+
+		for (int slot = 0; slot < sessionLoadDriver.getSessionCount(); slot++) {
+			sessionIds.add(sessionLoadDriver.getSessionId(slot));
+		}
+
+		return sessionIds;
+	}
+
+	@Test
+	public void populateCreatesWorkingSet() throws Exception {
+		Map<String, ExpiringSession> sessions = new ConcurrentHashMap<>();
+		MapSessionRepository sessionRepository = new MapSessionRepository(sessions);
+		SessionLoadDriver sessionLoadDriver = newPopulatedSessionLoadDriver(sessionRepository, "80:15:5");
+
+		Set<String> sessionIds = sessionIds(sessionLoadDriver);
+
+		assertThat(sessionIds).hasSize(SESSION_COUNT).doesNotContainNull();
+		assertThat(sessions).hasSize(SESSION_COUNT);
+
+		for (String sessionId : sessionIds) {
+			assertThat(sessionRepository.getSession(sessionId)).isNotNull();
+		}
+	}
+
+	@Test
+	public void writesUpdateSessionsAcrossWorkingSet() throws Exception {
+		Map<String, ExpiringSession> sessions = new ConcurrentHashMap<>();
+		MapSessionRepository sessionRepository = new MapSessionRepository(sessions);
+		SessionLoadDriver sessionLoadDriver = newPopulatedSessionLoadDriver(sessionRepository, "0:1:0");
+
+		Set<String> sessionIds = sessionIds(sessionLoadDriver);
+
+		for (int count = 0; count < 100; count++) {
+			assertThat(sessionLoadDriver.perform(SessionLoadDriver.Operation.WRITE, ThreadLocalRandom.current()))
+				.isEqualTo(SessionLoadDriver.NO_SLOT);
+		}
+
+		assertThat(sessionIds(sessionLoadDriver)).isEqualTo(sessionIds);
+		assertThat(sessions).hasSize(SESSION_COUNT);
+	}
+
+	@Test
+	public void deletedSessionsAreReplaced() throws Exception {
+		Map<String, ExpiringSession> sessions = new ConcurrentHashMap<>();
+		MapSessionRepository sessionRepository = new MapSessionRepository(sessions);
+		SessionLoadDriver sessionLoadDriver = newPopulatedSessionLoadDriver(sessionRepository, "0:0:1");
+
+		int slot = sessionLoadDriver.perform(SessionLoadDriver.Operation.DELETE, ThreadLocalRandom.current());
+
+		assertThat(slot).isNotEqualTo(SessionLoadDriver.NO_SLOT);
+		assertThat(sessionLoadDriver.getSessionId(slot)).isNull();
+		assertThat(sessions).hasSize(SESSION_COUNT - 1);
+
+		sessionLoadDriver.replaceSession(slot, null, ThreadLocalRandom.current());
+
+		assertThat(sessionLoadDriver.getSessionId(slot)).isNotNull();
+		assertThat(sessionRepository.getSession(sessionLoadDriver.getSessionId(slot))).isNotNull();
+		assertThat(sessions).hasSize(SESSION_COUNT);
+	}
+
+	@Test
+	public void writeToMissingSessionCreatesNewSession() throws Exception {
+		Map<String, ExpiringSession> sessions = new ConcurrentHashMap<>();
+		MapSessionRepository sessionRepository = new MapSessionRepository(sessions);
+		SessionLoadDriver sessionLoadDriver = newPopulatedSessionLoadDriver(sessionRepository, "0:1:0");
+
+		for (String sessionId : sessionIds(sessionLoadDriver)) {
+			sessionRepository.delete(sessionId);
+		}
+
+		sessionLoadDriver.perform(SessionLoadDriver.Operation.WRITE, ThreadLocalRandom.current());
+
+		assertThat(sessions).hasSize(1);
+		assertThat(sessionIds(sessionLoadDriver)).contains(sessions.keySet().iterator().next());
+	}
+}
@@ -0,0 +1,142 @@
+package example.webapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.session.ExpiringSession;
+import org.springframework.session.MapSessionRepository;
+
+/**
+ * Unit tests for the {@link LazyPersistenceSessionRepository} and the {@link LazyPersistenceHttpSessionStrategy}.
+ *
+ * @author John Blum
+ * @see example.webapp.LazyPersistenceHttpSessionStrategy
+ * @see example.webapp.LazyPersistenceSessionRepository
+ * @since 1.0.0
+ */
+public class LazyPersistenceSessionRepositoryTests {
+
+	protected static final String OPTIONAL_ATTRIBUTE_NAME = "requestCount";
+
+	private MapSessionRepository mapSessionRepository;
+
+	private LazyPersistenceSessionRepository sessionRepository;
+
+	@Before
+	public void setup() {
+		mapSessionRepository = new MapSessionRepository();
+		sessionRepository = new LazyPersistenceSessionRepository(mapSessionRepository,
+			Collections.singleton(OPTIONAL_ATTRIBUTE_NAME));
+	}
+
+	@Test
+	public void newSessionWithoutAttributesIsNotSaved() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		sessionRepository.save(session);
+
+		assertThat(mapSessionRepository.getSession(session.getId())).isNull();
+		assertThat(LazyPersistenceSessionRepository.isPersisted(session)).isFalse();
+	}
+
+	@Test
+	public void newSessionWithOnlyOptionalAttributesIsNotSaved() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute(OPTIONAL_ATTRIBUTE_NAME, 1);
+		sessionRepository.save(session);
+
+		assertThat(mapSessionRepository.getSession(session.getId())).isNull();
+		assertThat(LazyPersistenceSessionRepository.isPersisted(session)).isFalse();
+	}
+
+	@Test
+	public void firstPersistentAttributeSavesSession() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute(OPTIONAL_ATTRIBUTE_NAME, 1);
+		sessionRepository.save(session);
+		session.setAttribute("name", "test");
+		sessionRepository.save(session);
+
+		ExpiringSession storedSession = mapSessionRepository.getSession(session.getId());
+
+		assertThat(storedSession).isNotNull();
+		assertThat(storedSession.<String>getAttribute("name")).isEqualTo("test");
+		assertThat(storedSession.<Integer>getAttribute(OPTIONAL_ATTRIBUTE_NAME)).isEqualTo(1);
+		assertThat(LazyPersistenceSessionRepository.isPersisted(session)).isTrue();
+	}
+
+	@Test
+	public void laterSavesOfPersistedSessionAreSaved() {
+		ExpiringSession session = sessionRepository.createSession();
+
+		session.setAttribute("name", "test");
+		sessionRepository.save(session);
+		session.removeAttribute("name");
+		session.setAttribute(OPTIONAL_ATTRIBUTE_NAME, 2);
+		sessionRepository.save(session);
+
+		ExpiringSession storedSession = mapSessionRepository.getSession(session.getId());
+
+		assertThat(storedSession.getAttributeNames()).containsOnly(OPTIONAL_ATTRIBUTE_NAME);
+		assertThat(storedSession.<Integer>getAttribute(OPTIONAL_ATTRIBUTE_NAME)).isEqualTo(2);
+	}
+
+	@Test
+	public void existingSessionsAreSavedAsUsual() {
+		ExpiringSession session = mapSessionRepository.createSession();
+
+		mapSessionRepository.save(session);
+
+		ExpiringSession existingSession = sessionRepository.getSession(session.getId());
+
+		assertThat(LazyPersistenceSessionRepository.isPersisted(existingSession)).isTrue();
+
+		existingSession.setAttribute(OPTIONAL_ATTRIBUTE_NAME, 1);
+		sessionRepository.save(existingSession);
+
+		assertThat(mapSessionRepository.getSession(session.getId()).<Integer>getAttribute(OPTIONAL_ATTRIBUTE_NAME))
+			.isEqualTo(1);
+	}
+
+	@Test
+	public void newSessionsAreTrackedIndividually() {
+		ExpiringSession sessionOne = sessionRepository.createSession();
+		ExpiringSession sessionTwo = sessionRepository.createSession();
+
+		sessionOne.setAttribute("name", "test");
+		sessionRepository.save(sessionOne);
+		sessionRepository.save(sessionTwo);
+
+		assertThat(mapSessionRepository.getSession(sessionOne.getId())).isNotNull();
+		assertThat(mapSessionRepository.getSession(sessionTwo.getId())).isNull();
+	}
+
+	@Test
+	public void sessionCookieIsOnlySentForPersistedSessions() {
+		LazyPersistenceHttpSessionStrategy httpSessionStrategy = new LazyPersistenceHttpSessionStrategy();
+
+		ExpiringSession session = sessionRepository.createSession();
+
+		MockHttpServletResponse unpersistedSessionResponse = new MockHttpServletResponse();
+
+		httpSessionStrategy.onNewSession(session, new MockHttpServletRequest(), unpersistedSessionResponse);
+
+		assertThat(unpersistedSessionResponse.getCookies()).isEmpty();
+
+		session.setAttribute("name", "test");
+		sessionRepository.save(session);
+
+		MockHttpServletResponse persistedSessionResponse = new MockHttpServletResponse();
+
+		httpSessionStrategy.onNewSession(session, new MockHttpServletRequest(), persistedSessionResponse);
+
+		assertThat(persistedSessionResponse.getCookies()).isNotEmpty();
+	}
+}